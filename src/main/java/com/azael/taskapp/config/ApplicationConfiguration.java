@@ -20,6 +20,7 @@ public class ApplicationConfiguration {
     UserDetailsService userDetailsService() {
         // return email -> userRepository.findByEmail(email)
         // .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        // Solo lo usa el inicio de sesión, que necesita el hash de la contraseña; el filtro JWT usa la caché
         return username -> userRepository.findByUsernameIgnoreCase(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
     }
@@ -0,0 +1,51 @@
+package com.azael.taskapp.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Hilos de las respuestas asíncronas de Spring MVC (hoy solo la exportación de
+ * tareas). Sin esta configuración se usa el ejecutor por defecto, que no limita
+ * los hilos ni la cola, y cada exportación retiene una conexión del pool.
+ *
+ * TaskExportServiceImpl ya rechaza las exportaciones que superan el máximo; la
+ * cola solo cubre el instante en que una termina y su hilo aún no queda libre.
+ *
+ * El ejecutor no se publica como bean: Spring Boot solo crea su
+ * applicationTaskExecutor (el de @Async y demás) si no encuentra otro Executor
+ * en el contexto, y este, de 2 hilos, no debe reemplazarlo.
+ */
+@Configuration
+public class AsyncConfiguration implements WebMvcConfigurer {
+    @Value("${api.tasks.export.max-concurrent}")
+    private int EXPORT_MAX_CONCURRENT;
+
+    private ThreadPoolTaskExecutor mvcAsyncExecutor;
+
+    @PostConstruct
+    public void start() {
+        mvcAsyncExecutor = new ThreadPoolTaskExecutor();
+        mvcAsyncExecutor.setCorePoolSize(EXPORT_MAX_CONCURRENT);
+        mvcAsyncExecutor.setMaxPoolSize(EXPORT_MAX_CONCURRENT);
+        mvcAsyncExecutor.setQueueCapacity(EXPORT_MAX_CONCURRENT);
+        mvcAsyncExecutor.setThreadNamePrefix("mvc-async-");
+        mvcAsyncExecutor.setWaitForTasksToCompleteOnShutdown(false);
+        mvcAsyncExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void stop() {
+        mvcAsyncExecutor.shutdown();
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(mvcAsyncExecutor);
+    }
+}
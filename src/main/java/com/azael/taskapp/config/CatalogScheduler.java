@@ -0,0 +1,30 @@
+package com.azael.taskapp.config;
+
+import com.azael.taskapp.exceptions.ServiceLogicException;
+import com.azael.taskapp.services.CatalogService;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class CatalogScheduler {
+
+    private final CatalogService catalogService;
+
+    public CatalogScheduler(CatalogService catalogService) {
+        this.catalogService = catalogService;
+    }
+
+    @Scheduled(fixedDelayString = "${api.catalogs.refresh-interval}", initialDelayString = "${api.catalogs.refresh-interval}")
+    public void refreshCatalogs() {
+        try {
+            catalogService.refresh();
+        } catch (ServiceLogicException e) {
+            // El servicio ya registró la causa; se reintenta en el próximo intervalo
+            log.warn("Scheduled catalog refresh failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.azael.taskapp.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * Límites de peticiones por minuto.
+ *
+ * Las peticiones anónimas se limitan por IP y las autenticadas por usuario. Una
+ * ruta puede tener su propio límite (patrón Ant relativo al context path), que
+ * se aplica por usuario o IP dentro de esa ruta.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "api.security.rate-limit")
+public class RateLimitProperties {
+    // Límite por IP para peticiones anónimas
+    private int requestsPerMinute = 100;
+
+    // Límite por usuario autenticado
+    private int userRequestsPerMinute = 100;
+
+    // Peticiones que se pueden hacer seguidas antes de que se note el límite
+    // (0 = igual al límite por minuto)
+    private int burst = 0;
+
+    // Patrón de ruta -> peticiones por minuto, ej. /tasks/export/**=5
+    private Map<String, Integer> routes = new LinkedHashMap<>();
+
+    // Máximo de claves con estado exacto; el resto se limita con el sketch
+    private int maxKeys = 100000;
+
+    // Dimensiones del count-min sketch que detecta las claves más activas
+    private int sketchWidth = 65536;
+    private int sketchDepth = 4;
+
+    // local: cada instancia cuenta por su cuenta; shared: cuotas compartidas en el almacén
+    private String backend = "local";
+
+    // Almacén compartido: database (tabla rate_limit_bucket) o memory (un solo nodo)
+    private String store = "database";
+
+    // Permisos que un nodo reserva de una vez en el almacén compartido
+    private int batchSize = 10;
+
+    // Tiempo (ms) que un nodo conserva los permisos reservados sin usar
+    private long leaseTtl = 1000;
+
+    // Tiempo (ms) que se limita solo en local tras un fallo del almacén
+    private long fallbackRetry = 5000;
+
+    private int purgeBatchSize = 1000;
+}
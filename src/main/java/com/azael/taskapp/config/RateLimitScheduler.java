@@ -13,8 +13,8 @@ public class RateLimitScheduler {
         this.rateLimitService = rateLimitService;
     }
 
-    @Scheduled(fixedRate = 60000) // Cada 60 segundos
-    public void resetRequestCounts() {
-        rateLimitService.reset();
+    @Scheduled(fixedRate = 10000) // Cada 10 segundos, para liberar pronto espacio en la tabla
+    public void evictIdleBuckets() {
+        rateLimitService.evictIdle();
     }
 }
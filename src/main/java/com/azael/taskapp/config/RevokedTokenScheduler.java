@@ -0,0 +1,25 @@
+package com.azael.taskapp.config;
+
+import com.azael.taskapp.services.RevokedTokenService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RevokedTokenScheduler {
+
+    private final RevokedTokenService revokedTokenService;
+
+    public RevokedTokenScheduler(RevokedTokenService revokedTokenService) {
+        this.revokedTokenService = revokedTokenService;
+    }
+
+    @Scheduled(fixedDelayString = "${api.security.revoked-token.sync-interval}")
+    public void synchronizeRevokedTokens() {
+        revokedTokenService.synchronize();
+    }
+
+    @Scheduled(fixedDelayString = "${api.security.revoked-token.purge-interval}")
+    public void purgeExpiredRevokedTokens() {
+        revokedTokenService.purgeExpired();
+    }
+}
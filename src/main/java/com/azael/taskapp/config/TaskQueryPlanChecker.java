@@ -0,0 +1,83 @@
+package com.azael.taskapp.config;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Revisa al arrancar el plan de ejecución de las consultas más frecuentes sobre
+ * tasks y avisa si alguna recorre la tabla completa (por ejemplo, porque falta
+ * un índice en una base de datos creada a mano).
+ *
+ * Con pocas filas MySQL prefiere recorrer la tabla aunque exista el índice, así
+ * que la revisión solo se hace a partir de cierto tamaño.
+ */
+@Component
+@Slf4j
+public class TaskQueryPlanChecker {
+    // Misma forma que las consultas generadas por TaskRepository, con valores de ejemplo
+    private static final Map<String, String> HOT_QUERIES = new LinkedHashMap<>();
+    static {
+        HOT_QUERIES.put("tasks by user ordered by name",
+                "SELECT id FROM tasks WHERE user_id = 1 ORDER BY name, id LIMIT 10");
+        HOT_QUERIES.put("tasks by user ordered by creation date",
+                "SELECT id FROM tasks WHERE user_id = 1 ORDER BY created_at, id LIMIT 10");
+        HOT_QUERIES.put("tasks by user ordered by status",
+                "SELECT id FROM tasks WHERE user_id = 1 ORDER BY status_id, id LIMIT 10");
+        HOT_QUERIES.put("tasks by user and status",
+                "SELECT id FROM tasks WHERE user_id = 1 AND status_id = 1 LIMIT 10");
+        HOT_QUERIES.put("task count by user",
+                "SELECT COUNT(*) FROM tasks WHERE user_id = 1");
+    }
+
+    @Value("${api.tasks.plan-check.enabled}")
+    private boolean ENABLED;
+
+    @Value("${api.tasks.plan-check.min-rows}")
+    private long MIN_ROWS;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TaskQueryPlanChecker(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkQueryPlans() {
+        if (!ENABLED) {
+            return;
+        }
+        try {
+            Long rows = jdbcTemplate.queryForObject(
+                    "SELECT table_rows FROM information_schema.tables "
+                            + "WHERE table_schema = DATABASE() AND table_name = 'tasks'",
+                    Long.class);
+            if (rows == null || rows < MIN_ROWS) {
+                log.debug("Skipping task query plan check, table has about {} rows", rows);
+                return;
+            }
+            HOT_QUERIES.forEach(this::checkPlan);
+        } catch (DataAccessException e) {
+            log.warn("Could not check task query plans: {}", e.getMessage());
+        }
+    }
+
+    private void checkPlan(String description, String sql) {
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+        for (Map<String, Object> step : plan) {
+            if ("ALL".equals(step.get("type"))) {
+                log.warn("Query '{}' falls back to a full scan of {} (possible keys: {}): {}",
+                        description, step.get("table"), step.get("possible_keys"), sql);
+            }
+        }
+    }
+}
@@ -19,8 +19,8 @@ import com.azael.taskapp.persistence.dto.response.ApiResponseDto;
 import com.azael.taskapp.persistence.dto.response.ApiResponseStatus;
 import com.azael.taskapp.persistence.dto.response.auth.LoginResponseDto;
 import com.azael.taskapp.persistence.dto.response.user.UserResponseDto;
-import com.azael.taskapp.persistence.entities.User;
 import com.azael.taskapp.persistence.mappers.UserMapper;
+import com.azael.taskapp.security.UserSnapshot;
 import com.azael.taskapp.services.AuthService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -181,7 +181,7 @@ public class AuthController {
     @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
     @SecurityRequirement(name = "bearer-key")
     public ResponseEntity<ApiResponseDto<UserResponseDto>> authenticatedUser() {
-        User user = authService.me();
+        UserSnapshot user = authService.me();
 
         // userDto.add(HateoasHelper.createLink(this, "show","self", user.getId()));
         return ApiResponseHelper.createResponse(HttpStatus.OK, "User data successfully obtained",
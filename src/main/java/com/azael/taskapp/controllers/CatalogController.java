@@ -1,19 +1,20 @@
 package com.azael.taskapp.controllers;
 
-import java.util.List;
-
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.azael.taskapp.helper.ApiResponseHelper;
 import com.azael.taskapp.persistence.dto.response.ApiResponseDto;
 import com.azael.taskapp.persistence.dto.response.ApiResponseStatus;
-import com.azael.taskapp.persistence.entities.Role;
-import com.azael.taskapp.persistence.entities.Status;
+import com.azael.taskapp.persistence.dto.response.catalog.CatalogPayload;
 import com.azael.taskapp.services.CatalogService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -34,7 +35,7 @@ public class CatalogController {
         @Autowired
         private CatalogService catalogService;
 
-        @Operation(summary = "Get all status", description = "Retrieves a list of all available statuses in the system.")
+        @Operation(summary = "Get all status", description = "Retrieves a list of all available statuses in the system. Responds 304 Not Modified when If-None-Match matches the current ETag.")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Status retrieved successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
                                         +
@@ -55,6 +56,7 @@ public class CatalogController {
                                         "    }\n" +
                                         "  ]\n" +
                                         "}"))),
+                        @ApiResponse(responseCode = "304", description = "Catalog not modified since the ETag sent in If-None-Match"),
                         @ApiResponse(responseCode = "500", description = "Internal server error occurred", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
                                         +
                                         "  \"status\": \"FAIL\",\n" +
@@ -63,16 +65,11 @@ public class CatalogController {
                                         "}")))
         })
         @GetMapping({ "/status", "/status/" })
-        public ResponseEntity<ApiResponseDto<List<Status>>> getAllStatus() {
-                List<Status> status = catalogService.getAllStatus();
-                return ApiResponseHelper.createResponse(
-                                HttpStatus.OK,
-                                "Status data successfully obtained",
-                                ApiResponseStatus.SUCCESS,
-                                status);
+        public ResponseEntity<byte[]> getAllStatus() {
+                return catalogResponse(catalogService.getStatusPayload());
         }
 
-        @Operation(summary = "Get all roles", description = "Retrieves a list of all available roles in the system.")
+        @Operation(summary = "Get all roles", description = "Retrieves a list of all available roles in the system. Responds 304 Not Modified when If-None-Match matches the current ETag.")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Roles retrieved successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
                                         +
@@ -89,6 +86,7 @@ public class CatalogController {
                                         "    }\n" +
                                         "  ]\n" +
                                         "}"))),
+                        @ApiResponse(responseCode = "304", description = "Catalog not modified since the ETag sent in If-None-Match"),
                         @ApiResponse(responseCode = "500", description = "Internal server error occurred", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
                                         +
                                         "  \"status\": \"FAIL\",\n" +
@@ -97,12 +95,45 @@ public class CatalogController {
                                         "}")))
         })
         @GetMapping({ "/roles", "/roles/" })
-        public ResponseEntity<ApiResponseDto<List<Role>>> getAllRoles() {
-                List<Role> roles = catalogService.getAllRoles();
-                return ApiResponseHelper.createResponse(
-                                HttpStatus.OK,
-                                "Role data successfully obtained",
-                                ApiResponseStatus.SUCCESS,
-                                roles);
+        public ResponseEntity<byte[]> getAllRoles() {
+                return catalogResponse(catalogService.getRolesPayload());
+        }
+
+        @Operation(summary = "Refresh catalogs", description = "Reloads statuses and roles from the database into the in-memory catalogs. Requires ADMIN role.", security = @SecurityRequirement(name = "bearer-key"))
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Catalogs refreshed", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
+                                        +
+                                        "  \"status\": \"SUCCESS\",\n" +
+                                        "  \"message\": \"Catalogs refreshed successfully!\",\n" +
+                                        "  \"results\": null\n" +
+                                        "}"))),
+                        @ApiResponse(responseCode = "400", description = "Catalogs could not be reloaded; the previous ones are still served", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
+                                        +
+                                        "  \"status\": \"FAIL\",\n" +
+                                        "  \"message\": \"Catalogs could not be reloaded; the previous ones are still served\",\n" +
+                                        "  \"results\": null\n" +
+                                        "}"))),
+                        @ApiResponse(responseCode = "403", description = "Access denied", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
+                                        +
+                                        "  \"status\": \"FAIL\",\n" +
+                                        "  \"message\": \"Acceso denegado. No tienes permisos para acceder a este recurso.\",\n" +
+                                        "  \"results\": null\n" +
+                                        "}")))
+        })
+        @PostMapping("/refresh")
+        @PreAuthorize("hasRole('ADMIN')")
+        public ResponseEntity<ApiResponseDto<Void>> refresh() {
+                catalogService.refresh();
+                return ApiResponseHelper.createResponse(HttpStatus.OK, "Catalogs refreshed successfully!",
+                                ApiResponseStatus.SUCCESS, null);
+        }
+
+        // Cuerpo ya serializado con su ETag; Spring responde 304 si coincide con If-None-Match
+        private ResponseEntity<byte[]> catalogResponse(CatalogPayload payload) {
+                return ResponseEntity.ok()
+                                .eTag(payload.etag())
+                                .cacheControl(CacheControl.noCache())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .body(payload.body());
         }
 }
@@ -1,17 +1,24 @@
 package com.azael.taskapp.controllers;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.hateoas.PagedModel;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -19,19 +26,34 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.azael.taskapp.exceptions.NotFoundException;
 import com.azael.taskapp.exceptions.ServiceLogicException;
 import com.azael.taskapp.helper.ApiResponseHelper;
-import com.azael.taskapp.helper.HateoasHelper;
+import com.azael.taskapp.helper.CursorHelper;
+import com.azael.taskapp.helper.LinkTemplateRegistry;
 import com.azael.taskapp.persistence.dto.request.task.UpdateTaskRequestDto;
+import com.azael.taskapp.persistence.dto.request.task.BatchCreateTaskItemDto;
+import com.azael.taskapp.persistence.dto.request.task.BatchStatusChangeItemDto;
+import com.azael.taskapp.persistence.dto.request.task.BatchTaskRequestDto;
+import com.azael.taskapp.persistence.dto.request.task.BatchUpdateTaskItemDto;
 import com.azael.taskapp.persistence.dto.request.task.CreateTaskRequestDto;
+import com.azael.taskapp.persistence.dto.request.task.PatchTaskRequestDto;
+import com.azael.taskapp.persistence.dto.request.task.TaskFileFormat;
+import com.azael.taskapp.persistence.dto.request.task.TaskSortField;
 import com.azael.taskapp.persistence.dto.request.task.TaskStatusChangeRequest;
 import com.azael.taskapp.persistence.dto.response.ApiResponseDto;
 import com.azael.taskapp.persistence.dto.response.ApiResponseStatus;
+import com.azael.taskapp.persistence.dto.response.task.BatchTaskResponseDto;
+import com.azael.taskapp.persistence.dto.response.task.TaskImportResultDto;
 import com.azael.taskapp.persistence.dto.response.task.TaskResponseDto;
 import com.azael.taskapp.persistence.entities.Task;
 import com.azael.taskapp.persistence.mappers.TaskMapper;
+import com.azael.taskapp.persistence.projections.TaskSummary;
+import com.azael.taskapp.services.TaskExportService;
+import com.azael.taskapp.services.TaskImportService;
+import com.azael.taskapp.services.TaskSearchService;
 import com.azael.taskapp.services.TaskService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -53,6 +75,18 @@ public class TaskController {
         @Autowired
         private TaskService taskService;
 
+        @Autowired
+        private TaskSearchService taskSearchService;
+
+        @Autowired
+        private TaskExportService taskExportService;
+
+        @Autowired
+        private TaskImportService taskImportService;
+
+        @Autowired
+        private LinkTemplateRegistry linkTemplateRegistry;
+
         @Operation(summary = "Create a new task", description = "Creates a new task in the system by providing valid task details.", tags = {
                         "Task Management" })
         @ApiResponses(value = {
@@ -225,21 +259,23 @@ public class TaskController {
 
                         @Parameter(description = "Number of items per page (default: 10)", example = "10") @RequestParam(defaultValue = "10") Integer size,
 
-                        @Parameter(description = "Filter tasks by name (optional)", example = "Complete project documentation") @RequestParam(defaultValue = "") String name,
+                        @Parameter(description = "Search tasks by name or description (optional). Results are ranked by relevance and sortBy is ignored", example = "Complete project documentation") @RequestParam(defaultValue = "") String name,
 
-                        @Parameter(description = "Field to sort by (default: id)", example = "id") @RequestParam(defaultValue = "id") String sortBy,
+                        @Parameter(description = "Field to sort by: id, name, createdAt or status (default: id)", example = "id") @RequestParam(defaultValue = "id") String sortBy,
 
-                        @Parameter(description = "Sort direction (asc or desc, default: asc)", example = "asc") @RequestParam(defaultValue = "asc") String direction) {
+                        @Parameter(description = "Sort direction (asc or desc, default: asc)", example = "asc") @RequestParam(defaultValue = "asc") String direction,
+
+                        @Parameter(description = "Count matching tasks exactly (default: true). With false, unfiltered listings use cached totals and filtered ones omit the page metadata", example = "true") @RequestParam(defaultValue = "true") Boolean count) {
                 // Validar la dirección de ordenamiento
                 Sort.Direction sortDirection = "desc".equalsIgnoreCase(direction)
                                 ? Sort.Direction.DESC
                                 : Sort.Direction.ASC;
 
-                // Crear el objeto Sort para el ordenamiento
-                Sort sort = Sort.by(sortDirection, sortBy);
+                // Crear el objeto Sort solo con campos permitidos (respaldados por un índice)
+                Sort sort = TaskSortField.from(sortBy).toSort(sortDirection);
 
                 // Obtener la página de tareas
-                Page<Task> tasksPage = taskService.getAll(page, size, sort, name);
+                Slice<TaskSummary> tasksPage = taskService.getAll(page, size, sort, name, count);
 
                 // Mapear las tareas a DTO y agregar enlaces HATEOAS
                 List<TaskResponseDto> taskResources = tasksPage.getContent().stream()
@@ -250,17 +286,19 @@ public class TaskController {
                                 })
                                 .collect(Collectors.toList());
 
-                // Crear el modelo paginado con metadatos
-                PagedModel<TaskResponseDto> pagedModel = PagedModel.of(
-                                taskResources,
-                                new PagedModel.PageMetadata(
-                                                tasksPage.getSize(),
-                                                tasksPage.getNumber(),
-                                                tasksPage.getTotalElements(),
-                                                tasksPage.getTotalPages()));
+                // Crear el modelo paginado; los metadatos solo existen si se conoce el total
+                PagedModel<TaskResponseDto> pagedModel = tasksPage instanceof Page<TaskSummary> countedPage
+                                ? PagedModel.of(
+                                                taskResources,
+                                                new PagedModel.PageMetadata(
+                                                                countedPage.getSize(),
+                                                                countedPage.getNumber(),
+                                                                countedPage.getTotalElements(),
+                                                                countedPage.getTotalPages()))
+                                : PagedModel.of(taskResources, (PagedModel.PageMetadata) null);
 
                 // Agregar enlaces HATEOAS al modelo paginado
-                addPaginationLinks(pagedModel, tasksPage, page, size, sortBy, direction, name);
+                addPaginationLinks(pagedModel, tasksPage, page, size, sortBy, direction, name, count);
 
                 // Devolver la respuesta
                 return ApiResponseHelper.createResponse(
@@ -271,42 +309,339 @@ public class TaskController {
         }
 
         // Método auxiliar para agregar enlaces de paginación al modelo paginado
-        private void addPaginationLinks(PagedModel<TaskResponseDto> pagedModel, Page<Task> tasksPage, int page,
+        private void addPaginationLinks(PagedModel<TaskResponseDto> pagedModel, Slice<TaskSummary> tasksPage, int page,
                         int size,
-                        String sortBy, String direction, String name) {
-                pagedModel.add(HateoasHelper.createLink(
-                                this,
-                                "getAll",
-                                "self",
-                                page, size, name, sortBy, direction));
+                        String sortBy, String direction, String name, Boolean count) {
+                // La URL base y la plantilla se obtienen una vez para todos los enlaces
+                LinkTemplateRegistry.Expander getAllLinks = linkTemplateRegistry.expander(TaskController.class, "getAll");
+                pagedModel.add(getAllLinks.link("self", page, size, name, sortBy, direction, count));
 
                 if (tasksPage.hasNext()) {
-                        pagedModel.add(HateoasHelper.createLink(
-                                        this,
-                                        "getAll",
-                                        "next",
-                                        page + 1, size, name, sortBy, direction));
+                        pagedModel.add(getAllLinks.link("next", page + 1, size, name, sortBy, direction, count));
                 }
 
                 if (tasksPage.hasPrevious()) {
-                        pagedModel.add(HateoasHelper.createLink(
-                                        this,
-                                        "getAll",
-                                        "previous",
-                                        page - 1, size, name, sortBy, direction));
+                        pagedModel.add(getAllLinks.link("previous", page - 1, size, name, sortBy, direction, count));
+                }
+
+                pagedModel.add(getAllLinks.link("first", 0, size, name, sortBy, direction, count));
+
+                // La última página solo se conoce si hay total
+                if (tasksPage instanceof Page<TaskSummary> countedPage) {
+                        pagedModel.add(getAllLinks.link("last", countedPage.getTotalPages() - 1, size, name, sortBy, direction, count));
+                }
+        }
+
+        @Operation(summary = "Get tasks with cursor pagination", description = "Retrieves tasks after the given cursor without counting the whole table, so every page costs the same. Follow the 'next' link to continue; it is absent on the last page. Sort fields: id, name, createdAt. Sorting by createdAt skips legacy tasks without a creation date.", tags = {
+                        "Task Management" }, security = @SecurityRequirement(name = "bearer-key"))
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Tasks retrieved successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
+                                        +
+                                        "  \"status\": \"SUCCESS\",\n" +
+                                        "  \"message\": \"Task data successfully obtained\",\n" +
+                                        "  \"results\": {\n" +
+                                        "    \"_embedded\": {\n" +
+                                        "      \"tasks\": [\n" +
+                                        "        {\n" +
+                                        "          \"id\": 11,\n" +
+                                        "          \"name\": \"Complete project documentation\",\n" +
+                                        "          \"description\": \"Write detailed API documentation for the project.\"\n"
+                                        +
+                                        "        }\n" +
+                                        "      ]\n" +
+                                        "    },\n" +
+                                        "    \"links\": {\n" +
+                                        "      \"self\": {\n" +
+                                        "        \"href\": \"http://localhost:8080/api/tasks/scroll?cursor=MTA&size=10&name=&sortBy=id&direction=asc\"\n"
+                                        +
+                                        "      },\n" +
+                                        "      \"next\": {\n" +
+                                        "        \"href\": \"http://localhost:8080/api/tasks/scroll?cursor=MjA&size=10&name=&sortBy=id&direction=asc\"\n"
+                                        +
+                                        "      }\n" +
+                                        "    }\n" +
+                                        "  }\n" +
+                                        "}"))),
+                        @ApiResponse(responseCode = "400", description = "Invalid cursor or sort field", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
+                                        +
+                                        "  \"status\": \"FAIL\",\n" +
+                                        "  \"message\": \"Validation failed\",\n" +
+                                        "  \"results\": {\n" +
+                                        "    \"errors\": {\n" +
+                                        "      \"cursor\": {\n" +
+                                        "        \"message\": \"Invalid cursor for sort field id\"\n" +
+                                        "      }\n" +
+                                        "    }\n" +
+                                        "  }\n" +
+                                        "}"))),
+                        @ApiResponse(responseCode = "401", description = "Unauthorized access", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
+                                        +
+                                        "  \"status\": \"FAIL\",\n" +
+                                        "  \"message\": \"Unauthorized access\",\n" +
+                                        "  \"results\": null\n" +
+                                        "}")))
+        })
+        @GetMapping("/scroll")
+        @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+        public ResponseEntity<ApiResponseDto<PagedModel<TaskResponseDto>>> scroll(
+                        @Parameter(description = "Opaque cursor from a previous 'next' link (empty for the first page)") @RequestParam(defaultValue = "") String cursor,
+
+                        @Parameter(description = "Number of items per page (default: 10, max: 100)", example = "10") @RequestParam(defaultValue = "10") Integer size,
+
+                        @Parameter(description = "Filter tasks by name (optional)", example = "Complete project documentation") @RequestParam(defaultValue = "") String name,
+
+                        @Parameter(description = "Field to sort by (default: id)", example = "id") @RequestParam(defaultValue = "id") String sortBy,
+
+                        @Parameter(description = "Sort direction (asc or desc, default: asc)", example = "asc") @RequestParam(defaultValue = "asc") String direction) {
+                Sort.Direction sortDirection = "desc".equalsIgnoreCase(direction)
+                                ? Sort.Direction.DESC
+                                : Sort.Direction.ASC;
+
+                // Obtener la ventana de tareas a partir del cursor
+                TaskSortField sortField = TaskSortField.from(sortBy);
+                Window<Task> tasksWindow = taskService.scroll(cursor, size, sortDirection, sortField, name);
+
+                List<TaskResponseDto> taskResources = tasksWindow.getContent().stream()
+                                .map(TaskMapper::toDTO)
+                                .collect(Collectors.toList());
+
+                // Sin metadatos de página: calcularlos obligaría a contar toda la tabla
+                PagedModel<TaskResponseDto> pagedModel = PagedModel.of(taskResources, (PagedModel.PageMetadata) null);
+
+                LinkTemplateRegistry.Expander scrollLinks = linkTemplateRegistry.expander(TaskController.class, "scroll");
+                pagedModel.add(scrollLinks.link("self", cursor, size, name, sortBy, direction));
+
+                if (tasksWindow.hasNext() && !tasksWindow.isEmpty()) {
+                        String nextCursor = CursorHelper.encode(tasksWindow.positionAt(tasksWindow.size() - 1), sortField);
+                        pagedModel.add(scrollLinks.link("next", nextCursor, size, name, sortBy, direction));
                 }
 
-                pagedModel.add(HateoasHelper.createLink(
-                                this,
-                                "getAll",
-                                "first",
-                                0, size, name, sortBy, direction));
-
-                pagedModel.add(HateoasHelper.createLink(
-                                this,
-                                "getAll",
-                                "last",
-                                tasksPage.getTotalPages() - 1, size, name, sortBy, direction));
+                return ApiResponseHelper.createResponse(
+                                HttpStatus.OK,
+                                "Task data successfully obtained",
+                                ApiResponseStatus.SUCCESS,
+                                pagedModel);
+        }
+
+        @Operation(summary = "Export tasks", description = "Streams every task of the current user (all tasks for ADMIN) as NDJSON or CSV, without pagination. Requires a valid JWT token with ADMIN or USER role.", tags = {
+                        "Task Management" }, security = @SecurityRequirement(name = "bearer-key"))
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Tasks exported", content = {
+                                        @Content(mediaType = "application/x-ndjson", examples = @ExampleObject(value = "{\"id\":1,\"name\":\"Complete project documentation\",\"statusName\":\"PENDING\",\"userId\":2}\n")),
+                                        @Content(mediaType = "text/csv", examples = @ExampleObject(value = "id,name,description,status,userId,username,createdAt,updatedAt\n"
+                                                        + "1,Complete project documentation,Write detailed API documentation.,PENDING,2,user,2025-01-10T10:00,2025-01-10T10:00\n")) }),
+                        @ApiResponse(responseCode = "400", description = "Invalid file format", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
+                                        +
+                                        "  \"status\": \"FAIL\",\n" +
+                                        "  \"message\": \"Validation failed\",\n" +
+                                        "  \"results\": {\n" +
+                                        "    \"format\": { \"message\": \"Invalid file format\" }\n" +
+                                        "  }\n" +
+                                        "}"))),
+                        @ApiResponse(responseCode = "429", description = "Too many exports in progress", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
+                                        +
+                                        "  \"status\": \"FAIL\",\n" +
+                                        "  \"message\": \"Too many task exports in progress\",\n" +
+                                        "  \"results\": null\n" +
+                                        "}")))
+        })
+        @GetMapping("/export")
+        @PreAuthorize("hasAnyRole('ADMIN', 'USER')")
+        public ResponseEntity<StreamingResponseBody> export(
+                        @Parameter(description = "Export format: ndjson or csv", example = "ndjson") @RequestParam(defaultValue = "ndjson") String format) {
+                TaskFileFormat fileFormat = TaskFileFormat.from(format);
+                return ResponseEntity.ok()
+                                .contentType(MediaType.parseMediaType(fileFormat.getContentType()))
+                                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                                .filename(fileFormat.getFileName()).build().toString())
+                                .body(taskExportService.export(fileFormat));
+        }
+
+        @Operation(summary = "Import tasks", description = "Creates tasks for the current user from an NDJSON body (one object with name, description and statusId per line) or a CSV body with the header name,description,statusId. Rows are saved in fixed-size batches, each in its own transaction; invalid rows are reported by line. Requires USER role.", tags = {
+                        "Task Management" }, security = @SecurityRequirement(name = "bearer-key"))
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Import finished", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
+                                        +
+                                        "  \"status\": \"SUCCESS\",\n" +
+                                        "  \"message\": \"Task import finished!\",\n" +
+                                        "  \"results\": {\n" +
+                                        "    \"rows\": 3,\n" +
+                                        "    \"imported\": 2,\n" +
+                                        "    \"failed\": 1,\n" +
+                                        "    \"batches\": 1,\n" +
+                                        "    \"errors\": [\n" +
+                                        "      { \"line\": 3, \"errors\": { \"name\": { \"message\": \"Task name must be unique for the user.\" } } }\n" +
+                                        "    ],\n" +
+                                        "    \"errorsTruncated\": false\n" +
+                                        "  }\n" +
+                                        "}"))),
+                        @ApiResponse(responseCode = "400", description = "Invalid file format or CSV header", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
+                                        +
+                                        "  \"status\": \"FAIL\",\n" +
+                                        "  \"message\": \"Validation failed\",\n" +
+                                        "  \"results\": {\n" +
+                                        "    \"header\": { \"message\": \"CSV header must contain the columns name, description and statusId\" }\n" +
+                                        "  }\n" +
+                                        "}"))),
+                        @ApiResponse(responseCode = "429", description = "Too many imports in progress", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
+                                        +
+                                        "  \"status\": \"FAIL\",\n" +
+                                        "  \"message\": \"Too many task imports in progress\",\n" +
+                                        "  \"results\": null\n" +
+                                        "}")))
+        })
+        @PostMapping("/import")
+        @PreAuthorize("hasRole('USER')")
+        public ResponseEntity<ApiResponseDto<TaskImportResultDto>> importTasks(
+                        @Parameter(description = "File format: ndjson or csv", example = "ndjson") @RequestParam(defaultValue = "ndjson") String format,
+                        InputStream body) {
+                TaskImportResultDto result = taskImportService.importTasks(body, TaskFileFormat.from(format));
+                return ApiResponseHelper.createResponse(HttpStatus.OK, "Task import finished!",
+                                ApiResponseStatus.SUCCESS, result);
+        }
+
+        @Operation(summary = "Rebuild the task search index", description = "Recreates the full-text index used by the name filter of GET /tasks in a single ALTER TABLE. Reads keep working, but writes to tasks wait until it finishes, which can take minutes on a large table. Requires ADMIN role.", tags = {
+                        "Task Management" }, security = @SecurityRequirement(name = "bearer-key"))
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Search index rebuilt", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
+                                        +
+                                        "  \"status\": \"SUCCESS\",\n" +
+                                        "  \"message\": \"Task search index rebuilt successfully!\",\n" +
+                                        "  \"results\": null\n" +
+                                        "}"))),
+                        @ApiResponse(responseCode = "403", description = "Access denied", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
+                                        +
+                                        "  \"status\": \"FAIL\",\n" +
+                                        "  \"message\": \"Acceso denegado. No tienes permisos para acceder a este recurso.\",\n" +
+                                        "  \"results\": null\n" +
+                                        "}")))
+        })
+        @PostMapping("/search-index/rebuild")
+        @PreAuthorize("hasRole('ADMIN')")
+        public ResponseEntity<ApiResponseDto<Void>> rebuildSearchIndex() {
+                taskSearchService.rebuild();
+                return ApiResponseHelper.createResponse(HttpStatus.OK, "Task search index rebuilt successfully!",
+                                ApiResponseStatus.SUCCESS, null);
+        }
+
+        @Operation(summary = "Create tasks in batch", description = "Creates up to 500 tasks for the current user in a single transaction. Invalid items are reported per index without stopping the rest of the batch. Requires USER role.", tags = {
+                        "Task Management" }, security = @SecurityRequirement(name = "bearer-key"))
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Batch processed", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
+                                        +
+                                        "  \"status\": \"SUCCESS\",\n" +
+                                        "  \"message\": \"Task batch processed successfully!\",\n" +
+                                        "  \"results\": {\n" +
+                                        "    \"succeeded\": 1,\n" +
+                                        "    \"failed\": 1,\n" +
+                                        "    \"results\": [\n" +
+                                        "      { \"index\": 0, \"status\": \"CREATED\", \"task\": { \"id\": 1, \"name\": \"Complete project documentation\" }, \"errors\": null },\n" +
+                                        "      { \"index\": 1, \"status\": \"FAILED\", \"task\": null, \"errors\": { \"name\": { \"message\": \"Task name must be unique for the user.\" } } }\n" +
+                                        "    ]\n" +
+                                        "  }\n" +
+                                        "}"))),
+                        @ApiResponse(responseCode = "400", description = "Invalid batch", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
+                                        +
+                                        "  \"status\": \"FAIL\",\n" +
+                                        "  \"message\": \"Validation failed\",\n" +
+                                        "  \"results\": {\n" +
+                                        "    \"items\": { \"message\": \"A batch can contain at most 500 items\" }\n" +
+                                        "  }\n" +
+                                        "}"))),
+                        @ApiResponse(responseCode = "403", description = "Access denied", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
+                                        +
+                                        "  \"status\": \"FAIL\",\n" +
+                                        "  \"message\": \"Acceso denegado. No tienes permisos para acceder a este recurso.\",\n" +
+                                        "  \"results\": null\n" +
+                                        "}")))
+        })
+        @PostMapping("/batch")
+        @PreAuthorize("hasRole('USER')")
+        public ResponseEntity<ApiResponseDto<BatchTaskResponseDto>> createBatch(
+                        @Parameter(description = "Tasks to be created", required = true) @Valid @RequestBody BatchTaskRequestDto<BatchCreateTaskItemDto> batchRequest) {
+                BatchTaskResponseDto result = taskService.createBatch(batchRequest.items());
+                return ApiResponseHelper.createResponse(HttpStatus.OK, "Task batch processed successfully!",
+                                ApiResponseStatus.SUCCESS, result);
+        }
+
+        @Operation(summary = "Update tasks in batch", description = "Updates up to 500 tasks in a single transaction. Invalid items are reported per index without stopping the rest of the batch. Requires USER role.", tags = {
+                        "Task Management" }, security = @SecurityRequirement(name = "bearer-key"))
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Batch processed", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
+                                        +
+                                        "  \"status\": \"SUCCESS\",\n" +
+                                        "  \"message\": \"Task batch processed successfully!\",\n" +
+                                        "  \"results\": {\n" +
+                                        "    \"succeeded\": 1,\n" +
+                                        "    \"failed\": 1,\n" +
+                                        "    \"results\": [\n" +
+                                        "      { \"index\": 0, \"status\": \"UPDATED\", \"task\": { \"id\": 1, \"name\": \"Complete project documentation\" }, \"errors\": null },\n" +
+                                        "      { \"index\": 1, \"status\": \"FAILED\", \"task\": null, \"errors\": { \"name\": { \"message\": \"Task name must be unique for the user.\" } } }\n" +
+                                        "    ]\n" +
+                                        "  }\n" +
+                                        "}"))),
+                        @ApiResponse(responseCode = "400", description = "Invalid batch", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
+                                        +
+                                        "  \"status\": \"FAIL\",\n" +
+                                        "  \"message\": \"Validation failed\",\n" +
+                                        "  \"results\": {\n" +
+                                        "    \"items\": { \"message\": \"A batch can contain at most 500 items\" }\n" +
+                                        "  }\n" +
+                                        "}"))),
+                        @ApiResponse(responseCode = "403", description = "Access denied", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
+                                        +
+                                        "  \"status\": \"FAIL\",\n" +
+                                        "  \"message\": \"Acceso denegado. No tienes permisos para acceder a este recurso.\",\n" +
+                                        "  \"results\": null\n" +
+                                        "}")))
+        })
+        @PutMapping("/batch")
+        @PreAuthorize("hasRole('USER')")
+        public ResponseEntity<ApiResponseDto<BatchTaskResponseDto>> updateBatch(
+                        @Parameter(description = "Tasks to be updated", required = true) @Valid @RequestBody BatchTaskRequestDto<BatchUpdateTaskItemDto> batchRequest) {
+                BatchTaskResponseDto result = taskService.updateBatch(batchRequest.items());
+                return ApiResponseHelper.createResponse(HttpStatus.OK, "Task batch processed successfully!",
+                                ApiResponseStatus.SUCCESS, result);
+        }
+
+        @Operation(summary = "Change the status of tasks in batch", description = "Changes the status of up to 500 tasks in a single transaction. Invalid items are reported per index without stopping the rest of the batch. Requires USER role.", tags = {
+                        "Task Management" }, security = @SecurityRequirement(name = "bearer-key"))
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Batch processed", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
+                                        +
+                                        "  \"status\": \"SUCCESS\",\n" +
+                                        "  \"message\": \"Task batch processed successfully!\",\n" +
+                                        "  \"results\": {\n" +
+                                        "    \"succeeded\": 1,\n" +
+                                        "    \"failed\": 1,\n" +
+                                        "    \"results\": [\n" +
+                                        "      { \"index\": 0, \"status\": \"UPDATED\", \"task\": { \"id\": 1, \"name\": \"Complete project documentation\" }, \"errors\": null },\n" +
+                                        "      { \"index\": 1, \"status\": \"FAILED\", \"task\": null, \"errors\": { \"name\": { \"message\": \"Task name must be unique for the user.\" } } }\n" +
+                                        "    ]\n" +
+                                        "  }\n" +
+                                        "}"))),
+                        @ApiResponse(responseCode = "400", description = "Invalid batch", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
+                                        +
+                                        "  \"status\": \"FAIL\",\n" +
+                                        "  \"message\": \"Validation failed\",\n" +
+                                        "  \"results\": {\n" +
+                                        "    \"items\": { \"message\": \"A batch can contain at most 500 items\" }\n" +
+                                        "  }\n" +
+                                        "}"))),
+                        @ApiResponse(responseCode = "403", description = "Access denied", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
+                                        +
+                                        "  \"status\": \"FAIL\",\n" +
+                                        "  \"message\": \"Acceso denegado. No tienes permisos para acceder a este recurso.\",\n" +
+                                        "  \"results\": null\n" +
+                                        "}")))
+        })
+        @PutMapping("/batch/status")
+        @PreAuthorize("hasRole('USER')")
+        public ResponseEntity<ApiResponseDto<BatchTaskResponseDto>> changeStatusBatch(
+                        @Parameter(description = "Status changes to be applied", required = true) @Valid @RequestBody BatchTaskRequestDto<BatchStatusChangeItemDto> batchRequest) {
+                BatchTaskResponseDto result = taskService.changeStatusBatch(batchRequest.items());
+                return ApiResponseHelper.createResponse(HttpStatus.OK, "Task batch processed successfully!",
+                                ApiResponseStatus.SUCCESS, result);
         }
 
         @Operation(summary = "Get task details by ID", description = "Retrieves the details of a specific task by providing its ID. Requires a valid JWT token with ADMIN or USER role.", tags = {
@@ -387,7 +722,7 @@ public class TaskController {
 
         }
 
-        @Operation(summary = "Update an existing task", description = "Updates the details of an existing task by providing valid task data and the task's ID. Requires a valid JWT token with USER role.", tags = {
+        @Operation(summary = "Update an existing task", description = "Updates the details of an existing task by providing valid task data and the task's ID. Only the owner's tasks can be changed; another user's task answers 404. Requires a valid JWT token with USER role.", tags = {
                         "Task Management" }, security = @SecurityRequirement(name = "bearer-key"))
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Task updated successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
@@ -447,7 +782,7 @@ public class TaskController {
                         @ApiResponse(responseCode = "404", description = "Task not found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
                                         +
                                         "  \"status\": \"FAIL\",\n" +
-                                        "  \"message\": \"Task with ID 1 not found\",\n" +
+                                        "  \"message\": \"Task not found for this user\",\n" +
                                         "  \"results\": null\n" +
                                         "}"))),
                         @ApiResponse(responseCode = "500", description = "Internal server error occurred", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
@@ -468,7 +803,55 @@ public class TaskController {
                                 ApiResponseStatus.SUCCESS, updatedTask);
         }
 
-        @Operation(summary = "Delete a task by ID", description = "Deletes an existing task by providing its ID. Requires a valid JWT token with USER role.", tags = {
+        @Operation(summary = "Partially update a task", description = "Applies only the fields present in the body; omitted or null fields are left unchanged. Unchanged values are not validated again and, if nothing changes, no update is written. Only the owner's tasks can be changed; another user's task answers 404. Requires a valid JWT token with USER role.", tags = {
+                        "Task Management" }, security = @SecurityRequirement(name = "bearer-key"))
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Task updated successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
+                                        +
+                                        "  \"status\": \"SUCCESS\",\n" +
+                                        "  \"message\": \"Task updated successfully!\",\n" +
+                                        "  \"results\": {\n" +
+                                        "    \"id\": 1,\n" +
+                                        "    \"name\": \"Complete project documentation\",\n" +
+                                        "    \"description\": \"Write detailed API documentation for the project (Updated).\",\n"
+                                        +
+                                        "    \"status\": { \"id\": 2, \"name\": \"IN_PROGRESS\" },\n" +
+                                        "    \"user\": { \"id\": 1, \"name\": \"John Doe\", \"username\": \"johndoe\" }\n" +
+                                        "  }\n" +
+                                        "}"))),
+                        @ApiResponse(responseCode = "400", description = "Validation failed or invalid input data", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
+                                        +
+                                        "  \"status\": \"FAIL\",\n" +
+                                        "  \"message\": \"Validation failed\",\n" +
+                                        "  \"results\": {\n" +
+                                        "    \"name\": { \"message\": \"Task name must be unique for the user.\" }\n" +
+                                        "  }\n" +
+                                        "}"))),
+                        @ApiResponse(responseCode = "403", description = "Access denied", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
+                                        +
+                                        "  \"status\": \"FAIL\",\n" +
+                                        "  \"message\": \"Acceso denegado. No tienes permisos para acceder a este recurso.\",\n" +
+                                        "  \"results\": null\n" +
+                                        "}"))),
+                        @ApiResponse(responseCode = "404", description = "Task not found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
+                                        +
+                                        "  \"status\": \"FAIL\",\n" +
+                                        "  \"message\": \"Task not found for this user\",\n" +
+                                        "  \"results\": null\n" +
+                                        "}")))
+        })
+        @PatchMapping("/{id}")
+        @PreAuthorize("hasRole('USER')")
+        public ResponseEntity<ApiResponseDto<TaskResponseDto>> patch(
+                        @Parameter(description = "ID of the task to be updated", required = true, example = "1") @PathVariable Long id,
+
+                        @Parameter(description = "Fields to change", required = true, schema = @Schema(implementation = PatchTaskRequestDto.class)) @Valid @RequestBody PatchTaskRequestDto changes) {
+                TaskResponseDto updatedTask = taskService.patch(changes, id);
+                return ApiResponseHelper.createResponse(HttpStatus.OK, "Task updated successfully!",
+                                ApiResponseStatus.SUCCESS, updatedTask);
+        }
+
+        @Operation(summary = "Delete a task by ID", description = "Deletes an existing task by providing its ID. Only the owner's tasks can be deleted; another user's task answers 404. Requires a valid JWT token with USER role.", tags = {
                         "Task Management" }, security = @SecurityRequirement(name = "bearer-key"))
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Task deleted successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
@@ -492,7 +875,7 @@ public class TaskController {
                         @ApiResponse(responseCode = "404", description = "Task not found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
                                         +
                                         "  \"status\": \"FAIL\",\n" +
-                                        "  \"message\": \"Task with ID 1 not found\",\n" +
+                                        "  \"message\": \"Task not found for this user\",\n" +
                                         "  \"results\": null\n" +
                                         "}"))),
                         @ApiResponse(responseCode = "500", description = "Internal server error occurred", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
@@ -511,7 +894,7 @@ public class TaskController {
                                 ApiResponseStatus.SUCCESS, null);
         }
 
-        @Operation(summary = "Update the status of a task", description = "Updates the status of an existing task by providing its ID and the new status ID. Requires a valid JWT token with USER role.", tags = {
+        @Operation(summary = "Update the status of a task", description = "Updates the status of an existing task by providing its ID and the new status ID. Only the owner's tasks can be changed; another user's task answers 404. Requires a valid JWT token with USER role.", tags = {
                         "Task Management" }, security = @SecurityRequirement(name = "bearer-key") 
         )
         @ApiResponses(value = {
@@ -569,7 +952,7 @@ public class TaskController {
                         @ApiResponse(responseCode = "404", description = "Task not found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
                                         +
                                         "  \"status\": \"FAIL\",\n" +
-                                        "  \"message\": \"Task with ID 1 not found\",\n" +
+                                        "  \"message\": \"Task not found for this user\",\n" +
                                         "  \"results\": null\n" +
                                         "}"))),
                         @ApiResponse(responseCode = "500", description = "Internal server error occurred", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiResponseDto.class), examples = @ExampleObject(value = "{\n"
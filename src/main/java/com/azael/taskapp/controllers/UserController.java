@@ -5,6 +5,7 @@ import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 // import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
@@ -25,7 +26,7 @@ import com.azael.taskapp.exceptions.DataInvalidException;
 import com.azael.taskapp.exceptions.NotFoundException;
 import com.azael.taskapp.exceptions.ServiceLogicException;
 import com.azael.taskapp.helper.ApiResponseHelper;
-import com.azael.taskapp.helper.HateoasHelper;
+import com.azael.taskapp.helper.LinkTemplateRegistry;
 import com.azael.taskapp.persistence.dto.request.user.CreateUserRequestDto;
 import com.azael.taskapp.persistence.dto.request.user.UpdateUserRequestDto;
 import com.azael.taskapp.persistence.dto.response.ApiResponseDto;
@@ -54,6 +55,9 @@ public class UserController {
 
         @Autowired
         private UserService userService;
+
+        @Autowired
+        private LinkTemplateRegistry linkTemplateRegistry;
         
         @Operation(summary = "Get all users with pagination and filtering", description = "Retrieves a paginated list of users. Supports filtering by name and email, and sorting by any field.", tags = {
                         "User Management" })
@@ -144,7 +148,9 @@ public class UserController {
 
                         @Parameter(description = "Field to sort by (default: id)", example = "id") @RequestParam(defaultValue = "id") String sortBy,
 
-                        @Parameter(description = "Sort direction (asc or desc, default: asc)", example = "asc") @RequestParam(defaultValue = "asc") String direction) {
+                        @Parameter(description = "Sort direction (asc or desc, default: asc)", example = "asc") @RequestParam(defaultValue = "asc") String direction,
+
+                        @Parameter(description = "Include exact totals in the page metadata (default: true). With false, the page metadata is omitted and no COUNT query runs", example = "true") @RequestParam(defaultValue = "true") Boolean count) {
                 // Validar la dirección de ordenamiento
                 Sort.Direction sortDirection = "desc".equalsIgnoreCase(direction)
                                 ? Sort.Direction.DESC
@@ -154,7 +160,7 @@ public class UserController {
                 Sort sort = Sort.by(sortDirection, sortBy);
 
                 // Obtener la página de usuarios
-                Page<User> usersPage = userService.getAll(page, size, sort, name, email);
+                Slice<User> usersPage = userService.getAll(page, size, sort, name, email, count);
 
                 // Mapear los usuarios a DTO y agregar enlaces HATEOAS
                 List<UserResponseDto> userResources = usersPage.getContent().stream()
@@ -163,17 +169,19 @@ public class UserController {
                                 // direction))
                                 .collect(Collectors.toList());
 
-                // Crear el modelo paginado con metadatos
-                PagedModel<UserResponseDto> pagedModel = PagedModel.of(
-                                userResources,
-                                new PagedModel.PageMetadata(
-                                                usersPage.getSize(),
-                                                usersPage.getNumber(),
-                                                usersPage.getTotalElements(),
-                                                usersPage.getTotalPages()));
+                // Crear el modelo paginado; los metadatos solo existen si se contó el total
+                PagedModel<UserResponseDto> pagedModel = usersPage instanceof Page<User> countedPage
+                                ? PagedModel.of(
+                                                userResources,
+                                                new PagedModel.PageMetadata(
+                                                                countedPage.getSize(),
+                                                                countedPage.getNumber(),
+                                                                countedPage.getTotalElements(),
+                                                                countedPage.getTotalPages()))
+                                : PagedModel.of(userResources, (PagedModel.PageMetadata) null);
 
                 // Agregar enlaces de paginación al modelo paginado
-                addPaginationLinks(pagedModel, usersPage, page, size, sortBy, direction, name, email);
+                addPaginationLinks(pagedModel, usersPage, page, size, sortBy, direction, name, email, count);
 
                 // Devolver la respuesta
                 return ApiResponseHelper.createResponse(
@@ -183,42 +191,27 @@ public class UserController {
                                 pagedModel);
         }
         // Método auxiliar para agregar enlaces de paginación al modelo paginado
-        private void addPaginationLinks(PagedModel<UserResponseDto> pagedModel, Page<User> usersPage, int page,
+        private void addPaginationLinks(PagedModel<UserResponseDto> pagedModel, Slice<User> usersPage, int page,
                         int size,
-                        String sortBy, String direction, String name, String email) {
-                pagedModel.add(HateoasHelper.createLink(
-                                this,
-                                "getAll",
-                                "self",
-                                page, size, name, email, sortBy, direction));
+                        String sortBy, String direction, String name, String email, Boolean count) {
+                // La URL base y la plantilla se obtienen una vez para todos los enlaces
+                LinkTemplateRegistry.Expander getAllLinks = linkTemplateRegistry.expander(UserController.class, "getAll");
+                pagedModel.add(getAllLinks.link("self", page, size, name, email, sortBy, direction, count));
 
                 if (usersPage.hasNext()) {
-                        pagedModel.add(HateoasHelper.createLink(
-                                        this,
-                                        "getAll",
-                                        "next",
-                                        page + 1, size, name, email, sortBy, direction));
+                        pagedModel.add(getAllLinks.link("next", page + 1, size, name, email, sortBy, direction, count));
                 }
 
                 if (usersPage.hasPrevious()) {
-                        pagedModel.add(HateoasHelper.createLink(
-                                        this,
-                                        "getAll",
-                                        "previous",
-                                        page - 1, size, name, email, sortBy, direction));
+                        pagedModel.add(getAllLinks.link("previous", page - 1, size, name, email, sortBy, direction, count));
                 }
 
-                pagedModel.add(HateoasHelper.createLink(
-                                this,
-                                "getAll",
-                                "first",
-                                0, size, name, email, sortBy, direction));
+                pagedModel.add(getAllLinks.link("first", 0, size, name, email, sortBy, direction, count));
 
-                pagedModel.add(HateoasHelper.createLink(
-                                this,
-                                "getAll",
-                                "last",
-                                usersPage.getTotalPages() - 1, size, name, email, sortBy, direction));
+                // La última página solo se conoce si se contó el total
+                if (usersPage instanceof Page<User> countedPage) {
+                        pagedModel.add(getAllLinks.link("last", countedPage.getTotalPages() - 1, size, name, email, sortBy, direction, count));
+                }
         }
 
         @Operation(summary = "Get user details by ID", description = "Retrieves the details of a specific user by providing their ID.", tags = {
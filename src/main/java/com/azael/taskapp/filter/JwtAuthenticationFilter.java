@@ -6,19 +6,26 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.servlet.HandlerExceptionResolver;
 
+import com.azael.taskapp.security.CurrentUserContext;
+import com.azael.taskapp.security.JwtPrincipal;
+import com.azael.taskapp.services.TokenVersionService;
+import com.azael.taskapp.services.UserCacheService;
 import com.azael.taskapp.services.impl.JwtServiceImpl;
 
+import io.jsonwebtoken.Claims;
+
 import java.io.IOException;
 
 @Component
@@ -29,13 +36,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private JwtServiceImpl jwtService;
 
-    private UserDetailsService userDetailsService;
+    private UserCacheService userCacheService;
+
+    private TokenVersionService tokenVersionService;
+
+    private CurrentUserContext currentUserContext;
+
+    // En modo stateless el principal se construye con los claims del token, sin consultar usuarios
+    @Value("${api.security.token.stateless}")
+    private boolean STATELESS;
 
     public JwtAuthenticationFilter(HandlerExceptionResolver handlerExceptionResolver, JwtServiceImpl jwtService,
-            UserDetailsService userDetailsService) {
+            UserCacheService userCacheService, TokenVersionService tokenVersionService,
+            CurrentUserContext currentUserContext) {
         this.handlerExceptionResolver = handlerExceptionResolver;
         this.jwtService = jwtService;
-        this.userDetailsService = userDetailsService;
+        this.userCacheService = userCacheService;
+        this.tokenVersionService = tokenVersionService;
+        this.currentUserContext = currentUserContext;
     }
 
     @Override
@@ -52,7 +70,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             final String jwt = authHeader.substring(7);
-            final String username = jwtService.extractUsername(jwt);
+            // Firma y expiración se verifican una sola vez; el resto del filtro usa estos claims
+            final Claims claims = jwtService.parseToken(jwt);
+            final String username = claims.getSubject();
             // final String email = jwtService.extractUsername(jwt);
 
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -60,9 +80,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             if (username != null && authentication == null) {
                 // UserDetails userDetails = this.userDetailsService.loadUserByUsernausername,
                 // email);il);
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+                UserDetails userDetails = loadPrincipal(username, claims);
 
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (userDetails != null && jwtService.isTokenValid(jwt, claims, userDetails)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -80,4 +100,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             handlerExceptionResolver.resolveException(request, response, null, exception);
         }
     }
+
+    /**
+     * Obtiene el principal de la petición. Los tokens emitidos antes de activar el
+     * modo stateless no traen los claims del usuario y se resuelven con la caché
+     * de usuarios.
+     *
+     * @return El principal, o null si el usuario fue desactivado o modificado
+     *         después de emitirse el token.
+     */
+    private UserDetails loadPrincipal(String username, Claims claims) {
+        if (STATELESS && JwtPrincipal.isPresentIn(claims)) {
+            JwtPrincipal principal = JwtPrincipal.fromClaims(claims);
+            if (!principal.active() || !tokenVersionService.isCurrent(principal.id(), principal.tokenVersion())) {
+                return null;
+            }
+            return principal;
+        }
+        currentUserContext.recordLookup();
+        return userCacheService.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+    }
 }
\ No newline at end of file
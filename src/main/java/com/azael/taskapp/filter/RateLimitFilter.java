@@ -1,35 +1,124 @@
 package com.azael.taskapp.filter;
 
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.azael.taskapp.exceptions.RateLimitException;
+import com.azael.taskapp.config.RateLimitProperties;
+import com.azael.taskapp.helper.RateLimitPolicy;
+import com.azael.taskapp.persistence.dto.response.ApiResponseDto;
+import com.azael.taskapp.persistence.dto.response.ApiResponseStatus;
 import com.azael.taskapp.services.RateLimitService;
-import org.springframework.web.filter.OncePerRequestFilter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Aplica el límite de peticiones por usuario o IP.
+ *
+ * Las peticiones rechazadas se responden aquí mismo con un cuerpo 429 ya
+ * serializado, sin lanzar excepciones: durante un ataque este es el camino más
+ * frecuente y debe costar lo mínimo. Los rechazos se registran en el log como
+ * mucho una vez por intervalo, con el total acumulado.
+ */
 @Component
+@Slf4j
 public class RateLimitFilter extends OncePerRequestFilter {
+    private static final String MESSAGE = "Too many requests. Please try again later.";
+    private static final long LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
 
     private final RateLimitService rateLimitService;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    // Las políticas se calculan una sola vez al arrancar
+    private final RateLimitPolicy ipPolicy;
+    private final RateLimitPolicy userPolicy;
+    private final Map<String, RateLimitPolicy> routePolicies = new LinkedHashMap<>();
+    private final byte[] rejectionBody;
+    private final LongAdder rejections = new LongAdder();
+    private final AtomicLong lastRejectionLog = new AtomicLong(System.nanoTime() - LOG_INTERVAL_NANOS);
 
-    public RateLimitFilter(RateLimitService rateLimitService) {
+    public RateLimitFilter(RateLimitService rateLimitService, RateLimitProperties properties,
+            ObjectMapper objectMapper) throws JsonProcessingException {
         this.rateLimitService = rateLimitService;
+        // Mismo formato que ApiResponseHelper.createResponse, serializado una sola vez
+        this.rejectionBody = objectMapper.writeValueAsBytes(
+                new ApiResponseDto<>(ApiResponseStatus.FAIL.name(), MESSAGE, null));
+        this.ipPolicy = RateLimitPolicy.perMinute("ip", properties.getRequestsPerMinute(), properties.getBurst());
+        this.userPolicy = RateLimitPolicy.perMinute("user", properties.getUserRequestsPerMinute(), properties.getBurst());
+        properties.getRoutes().forEach((pattern, limit) -> routePolicies.put(pattern,
+                RateLimitPolicy.perMinute("route:" + pattern, limit, 0)));
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        String clientIp = request.getRemoteAddr();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean authenticated = authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken);
+        String client = authenticated ? "user:" + authentication.getName() : "ip:" + request.getRemoteAddr();
+        RateLimitPolicy policy = resolvePolicy(request, authenticated);
 
-        if (!rateLimitService.isAllowed(clientIp)) {
-            throw new RateLimitException("Too many requests. Please try again later.");
+        long waitNanos = rateLimitService.tryAcquire(policy.name() + "|" + client, policy);
+        if (waitNanos > 0) {
+            reject(response, policy, waitNanos, client);
+            return;
         }
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    private void reject(HttpServletResponse response, RateLimitPolicy policy, long waitNanos, String client)
+            throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(rejectionBody.length);
+        // Retry-After se expresa en segundos enteros, redondeando hacia arriba
+        response.setHeader(HttpHeaders.RETRY_AFTER,
+                Long.toString(Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L)));
+        response.setHeader("X-RateLimit-Limit", Integer.toString(policy.limit()));
+        response.setHeader("X-RateLimit-Remaining", "0");
+        response.getOutputStream().write(rejectionBody);
+        logRejection(client);
+    }
+
+    private void logRejection(String client) {
+        rejections.increment();
+        long now = System.nanoTime();
+        long last = lastRejectionLog.get();
+        if (now - last >= LOG_INTERVAL_NANOS && lastRejectionLog.compareAndSet(last, now)) {
+            log.warn("Rate limit exceeded, last client {} ({} rejections in the last interval)",
+                    client, rejections.sumThenReset());
+        }
+    }
+
+    private RateLimitPolicy resolvePolicy(HttpServletRequest request, boolean authenticated) {
+        if (!routePolicies.isEmpty()) {
+            String path = request.getRequestURI().substring(request.getContextPath().length());
+            for (Map.Entry<String, RateLimitPolicy> route : routePolicies.entrySet()) {
+                if (pathMatcher.match(route.getKey(), path)) {
+                    return route.getValue();
+                }
+            }
+        }
+        return authenticated ? userPolicy : ipPolicy;
+    }
+}
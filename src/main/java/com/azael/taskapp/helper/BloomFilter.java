@@ -0,0 +1,96 @@
+package com.azael.taskapp.helper;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom concurrente sobre digests (por ejemplo SHA-256).
+ *
+ * Responde "seguro que no está" o "puede que esté"; nunca da falsos negativos.
+ * Las posiciones se derivan con doble hashing de los primeros 16 bytes del
+ * digest, por lo que no se vuelve a hashear el valor original.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long numBits;
+    private final int numHashFunctions;
+    private final int expectedInsertions;
+
+    /**
+     * @param expectedInsertions Número de elementos esperados.
+     * @param falsePositiveRate  Tasa de falsos positivos deseada (0 < fpp < 1).
+     */
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Expected insertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+        }
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate)
+                / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBits + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.numBits = (long) words * 64;
+        this.numHashFunctions = Math.max(1,
+                (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    /**
+     * Agrega un digest al filtro.
+     *
+     * @param digest Digest de al menos 16 bytes.
+     */
+    public void put(byte[] digest) {
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        long hash1 = buffer.getLong(0);
+        long hash2 = buffer.getLong(8);
+        for (int i = 0; i < numHashFunctions; i++) {
+            setBit(Math.floorMod(hash1 + i * hash2, numBits));
+        }
+    }
+
+    /**
+     * Indica si el digest pudo haberse agregado al filtro.
+     *
+     * @param digest Digest de al menos 16 bytes.
+     * @return false si el digest seguro no está en el filtro.
+     */
+    public boolean mightContain(byte[] digest) {
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        long hash1 = buffer.getLong(0);
+        long hash2 = buffer.getLong(8);
+        for (int i = 0; i < numHashFunctions; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, numBits);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getExpectedInsertions() {
+        return expectedInsertions;
+    }
+
+    /**
+     * Tamaño aproximado del filtro en bytes.
+     */
+    public long getSizeInBytes() {
+        return numBits / 8;
+    }
+
+    private void setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+    }
+}
@@ -0,0 +1,111 @@
+package com.azael.taskapp.helper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Count-min sketch concurrente de tamaño fijo.
+ *
+ * Estima cuántas veces se vio cada clave usando una matriz de contadores de
+ * depth x width; la estimación nunca es menor que el valor real. La memoria no
+ * depende del número de claves distintas.
+ *
+ * Cada fila usa un hash MurmurHash3 de los bytes UTF-8 de la clave con su
+ * propia semilla, así que dos claves solo comparten todos sus contadores si
+ * colisionan en cada fila por separado (a diferencia de String.hashCode, donde
+ * "Aa" y "BB" serían indistinguibles).
+ */
+public class CountMinSketch {
+    private static final int SEED = 0x9747b28c;
+
+    private final AtomicIntegerArray counters;
+    private final int width;
+    private final int depth;
+
+    /**
+     * @param width Contadores por fila; a mayor ancho, menor sobreestimación.
+     * @param depth Número de filas (funciones hash).
+     */
+    public CountMinSketch(int width, int depth) {
+        if (width <= 0 || depth <= 0) {
+            throw new IllegalArgumentException("Sketch width and depth must be positive");
+        }
+        this.counters = new AtomicIntegerArray(width * depth);
+        this.width = width;
+        this.depth = depth;
+    }
+
+    /**
+     * Incrementa la clave y devuelve su estimación ya incrementada.
+     */
+    public int add(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        int estimate = Integer.MAX_VALUE;
+        for (int i = 0; i < depth; i++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(i, bytes)));
+        }
+        return estimate;
+    }
+
+    /**
+     * Estimación de las veces que se vio la clave.
+     */
+    public int estimate(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        int estimate = Integer.MAX_VALUE;
+        for (int i = 0; i < depth; i++) {
+            estimate = Math.min(estimate, counters.get(index(i, bytes)));
+        }
+        return estimate;
+    }
+
+    /**
+     * Tamaño aproximado de la matriz de contadores en bytes.
+     */
+    public long getSizeInBytes() {
+        return (long) width * depth * Integer.BYTES;
+    }
+
+    private int index(int row, byte[] key) {
+        return row * width + Math.floorMod(murmur3(key, SEED + row * 0x61c88647), width);
+    }
+
+    // MurmurHash3 x86 de 32 bits
+    static int murmur3(byte[] data, int seed) {
+        int hash = seed;
+        int blocks = data.length >>> 2;
+        for (int i = 0; i < blocks; i++) {
+            int offset = i << 2;
+            int k = (data[offset] & 0xff) | (data[offset + 1] & 0xff) << 8
+                    | (data[offset + 2] & 0xff) << 16 | (data[offset + 3] & 0xff) << 24;
+            hash ^= mixK(k);
+            hash = Integer.rotateLeft(hash, 13) * 5 + 0xe6546b64;
+        }
+        int tail = blocks << 2;
+        int k = 0;
+        switch (data.length & 3) {
+            case 3:
+                k ^= (data[tail + 2] & 0xff) << 16;
+            case 2:
+                k ^= (data[tail + 1] & 0xff) << 8;
+            case 1:
+                k ^= data[tail] & 0xff;
+                hash ^= mixK(k);
+            default:
+                break;
+        }
+        hash ^= data.length;
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    private static int mixK(int k) {
+        k *= 0xcc9e2d51;
+        k = Integer.rotateLeft(k, 15);
+        return k * 0x1b873593;
+    }
+}
@@ -0,0 +1,115 @@
+package com.azael.taskapp.helper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lector incremental de CSV (RFC 4180): devuelve un registro a la vez sin
+ * cargar el archivo completo. Admite campos entre comillas con comas, comillas
+ * dobladas y saltos de línea.
+ *
+ * Un registro con más de maxRecordLength caracteres no se guarda: se sigue
+ * leyendo hasta su final para no perder la posición, se devuelve sin campos y
+ * {@link #isTooLong()} lo indica. Así una comilla sin cerrar o una línea enorme
+ * no pueden llenar la memoria.
+ */
+public class CsvRecordReader {
+    private final BufferedReader reader;
+    private final int maxRecordLength;
+    private long line = 1;
+    private long recordLine;
+    private boolean tooLong;
+    // Largo del campo actual aunque ya no se guarde, para reconocer las comillas de apertura
+    private int fieldLength;
+
+    public CsvRecordReader(BufferedReader reader, int maxRecordLength) {
+        this.reader = reader;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    /**
+     * @return Campos del siguiente registro (vacío si excede el largo máximo), o
+     *         null al llegar al final.
+     */
+    public List<String> next() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean empty = true;
+        recordLine = line;
+        tooLong = false;
+        fieldLength = 0;
+        int length = 0;
+        int c;
+        while ((c = reader.read()) != -1) {
+            empty = false;
+            if (!tooLong && ++length > maxRecordLength) {
+                tooLong = true;
+                fields.clear();
+                field.setLength(0);
+            }
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        append(field, '"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    append(field, c);
+                }
+            } else if (c == '"' && fieldLength == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                add(fields, field);
+            } else if (c == '\n') {
+                line++;
+                add(fields, field);
+                return fields;
+            } else if (c != '\r') {
+                append(field, c);
+            }
+        }
+        if (empty) {
+            return null;
+        }
+        add(fields, field);
+        return fields;
+    }
+
+    /**
+     * Indica si el último registro leído excedió el largo máximo.
+     */
+    public boolean isTooLong() {
+        return tooLong;
+    }
+
+    private void append(StringBuilder field, int c) {
+        fieldLength++;
+        if (!tooLong) {
+            field.append((char) c);
+        }
+    }
+
+    private void add(List<String> fields, StringBuilder field) {
+        if (!tooLong) {
+            fields.add(field.toString());
+        }
+        field.setLength(0);
+        fieldLength = 0;
+    }
+
+    /**
+     * Línea en la que empieza el último registro leído.
+     */
+    public long getRecordLine() {
+        return recordLine;
+    }
+}
@@ -0,0 +1,80 @@
+package com.azael.taskapp.helper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import com.azael.taskapp.exceptions.DataInvalidException;
+import com.azael.taskapp.persistence.dto.request.task.TaskSortField;
+
+/**
+ * Codifica y decodifica los cursores opacos de la paginación por keyset.
+ *
+ * El cursor guarda el valor del campo de ordenamiento y el id de la última fila
+ * entregada, en base64url. El cliente solo lo reenvía; nunca debe interpretarlo.
+ */
+public class CursorHelper {
+    private static final String ID = TaskSortField.ID.getProperty();
+
+    /**
+     * Crea el cursor que apunta después de la posición dada.
+     *
+     * @param position  Posición de la última fila de la ventana.
+     * @param sortField Campo de ordenamiento usado en la consulta.
+     * @throws IllegalStateException Si la fila no tiene valor en el campo de
+     *                               ordenamiento; las consultas con cursor
+     *                               excluyen esas filas.
+     */
+    public static String encode(ScrollPosition position, TaskSortField sortField) {
+        Map<String, ?> keys = ((KeysetScrollPosition) position).getKeys();
+        String property = sortField.getProperty();
+        // String.valueOf(null) daría "null", que decode rechaza
+        if (keys.get(ID) == null || keys.get(property) == null) {
+            throw new IllegalStateException("Cannot build a cursor from a row without " + property);
+        }
+        String raw = sortField == TaskSortField.ID
+                ? String.valueOf(keys.get(ID))
+                : keys.get(ID) + ":" + sortField.getParameter() + ":" + keys.get(property);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Convierte un cursor en una posición de keyset. Un cursor vacío indica el
+     * inicio del listado.
+     *
+     * @throws DataInvalidException Si el cursor no es válido o se generó con otro
+     *                              campo de ordenamiento.
+     */
+    public static ScrollPosition decode(String cursor, TaskSortField sortField) throws DataInvalidException {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // El valor va al final porque puede contener ':'
+            String[] parts = raw.split(":", 3);
+            Map<String, Object> keys = new LinkedHashMap<>();
+            if (sortField == TaskSortField.ID && parts.length == 1) {
+                keys.put(ID, Long.valueOf(parts[0]));
+                return ScrollPosition.forward(keys);
+            }
+            if (parts.length == 3 && parts[1].equals(sortField.getParameter()) && sortField.supportsCursor()) {
+                keys.put(sortField.getProperty(), sortField.parseCursorValue(parts[2]));
+                keys.put(ID, Long.valueOf(parts[0]));
+                return ScrollPosition.forward(keys);
+            }
+        } catch (RuntimeException e) {
+            // Se informa igual que cualquier otro cursor inválido
+        }
+        Map<String, String> cursorError = new HashMap<>();
+        cursorError.put("message", "Invalid cursor for sort field " + sortField.getParameter());
+        Map<String, Map<String, String>> errors = new HashMap<>();
+        errors.put("cursor", cursorError);
+        throw new DataInvalidException("Validation failed", errors);
+    }
+}
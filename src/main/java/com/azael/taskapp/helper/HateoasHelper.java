@@ -4,6 +4,11 @@ import org.springframework.aop.support.AopUtils;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 
+/**
+ * Enlaces construidos por reflexión sobre el controlador. Para los enlaces de
+ * cada respuesta se usa {@link LinkTemplateRegistry}, que resuelve las rutas una
+ * sola vez al arrancar.
+ */
 public class HateoasHelper {
 
     /**
@@ -0,0 +1,193 @@
+package com.azael.taskapp.helper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodParameter;
+import org.springframework.hateoas.Link;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Plantillas de URI de los endpoints, resueltas una sola vez al arrancar a
+ * partir de los mappings registrados en Spring MVC.
+ *
+ * Construir un enlace es solo sustituir los argumentos en la plantilla, sin la
+ * reflexión ni los proxies de {@link HateoasHelper#createLink}. Los argumentos
+ * se pasan en el orden de los parámetros {@code @PathVariable} y
+ * {@code @RequestParam} del método; los nulos se omiten de la query.
+ */
+@Component
+@Slf4j
+public class LinkTemplateRegistry implements SmartInitializingSingleton {
+    private static final String HANDLER_MAPPING = "requestMappingHandlerMapping";
+
+    private final ApplicationContext applicationContext;
+    private volatile Map<String, LinkTemplate> templates = Map.of();
+
+    public LinkTemplateRegistry(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    /**
+     * Se ejecuta con todos los singletons creados y antes de que el servidor
+     * acepte peticiones.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        RequestMappingHandlerMapping handlerMapping = applicationContext.getBean(HANDLER_MAPPING,
+                RequestMappingHandlerMapping.class);
+        Map<String, LinkTemplate> resolved = new HashMap<>();
+        Set<String> overloaded = new HashSet<>();
+        handlerMapping.getHandlerMethods().forEach((info, handlerMethod) -> {
+            String key = key(handlerMethod.getBeanType(), handlerMethod.getMethod().getName());
+            if (resolved.putIfAbsent(key, LinkTemplate.of(info, handlerMethod)) != null) {
+                overloaded.add(key);
+            }
+        });
+        // Un nombre con varias sobrecargas no identifica un endpoint
+        overloaded.forEach(resolved::remove);
+        templates = Map.copyOf(resolved);
+        log.info("Resolved {} link templates", templates.size());
+    }
+
+    /**
+     * Obtiene la plantilla de un método de controlador junto con la URL base de
+     * la petición en curso, para construir varios enlaces con ella.
+     *
+     * @param controller La clase del controlador.
+     * @param methodName El nombre del método (no sobrecargado).
+     * @return Un expansor listo para crear enlaces.
+     */
+    public Expander expander(Class<?> controller, String methodName) {
+        LinkTemplate template = templates.get(key(ClassUtils.getUserClass(controller), methodName));
+        if (template == null) {
+            throw new IllegalArgumentException("No unique link template for " + controller.getSimpleName() + "." + methodName);
+        }
+        return new Expander(template, ServletUriComponentsBuilder.fromCurrentContextPath().toUriString());
+    }
+
+    private static String key(Class<?> controller, String methodName) {
+        return controller.getName() + "#" + methodName;
+    }
+
+    /**
+     * Crea enlaces de un mismo endpoint sobre la URL base ya calculada.
+     */
+    public static class Expander {
+        private final LinkTemplate template;
+        private final String baseUri;
+
+        private Expander(LinkTemplate template, String baseUri) {
+            this.template = template;
+            this.baseUri = baseUri;
+        }
+
+        public Link link(String rel, Object... args) {
+            return Link.of(template.expand(baseUri, args), rel);
+        }
+    }
+
+    /**
+     * Ruta partida en literales y variables, y nombres de los parámetros de la
+     * query en el orden del método.
+     */
+    private record LinkTemplate(List<String> literals, List<Integer> variables, List<String> queryNames,
+            List<Integer> queryArgs, int arity) {
+
+        static LinkTemplate of(RequestMappingInfo info, HandlerMethod handlerMethod) {
+            // Con varias rutas ({"/", ""}) se usa la más corta
+            String path = info.getPatternValues().stream()
+                    .min(Comparator.comparingInt(String::length))
+                    .orElse("");
+
+            Map<String, Integer> pathArgs = new HashMap<>();
+            List<String> queryNames = new ArrayList<>();
+            List<Integer> queryArgs = new ArrayList<>();
+            int arity = 0;
+            for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+                parameter.initParameterNameDiscovery(new DefaultParameterNameDiscoverer());
+                PathVariable pathVariable = parameter.getParameterAnnotation(PathVariable.class);
+                RequestParam requestParam = parameter.getParameterAnnotation(RequestParam.class);
+                if (pathVariable != null) {
+                    pathArgs.put(name(pathVariable.name(), pathVariable.value(), parameter), arity++);
+                } else if (requestParam != null) {
+                    queryNames.add(name(requestParam.name(), requestParam.value(), parameter));
+                    queryArgs.add(arity++);
+                }
+            }
+
+            List<String> literals = new ArrayList<>();
+            List<Integer> variables = new ArrayList<>();
+            int position = 0;
+            int open;
+            while ((open = path.indexOf('{', position)) >= 0) {
+                int close = path.indexOf('}', open);
+                literals.add(path.substring(position, open));
+                // {id:\\d+} -> id
+                String variable = path.substring(open + 1, close).split(":", 2)[0];
+                variables.add(pathArgs.getOrDefault(variable, -1));
+                position = close + 1;
+            }
+            literals.add(path.substring(position));
+            return new LinkTemplate(List.copyOf(literals), List.copyOf(variables), List.copyOf(queryNames),
+                    List.copyOf(queryArgs), arity);
+        }
+
+        String expand(String baseUri, Object... args) {
+            if (args.length != arity) {
+                throw new IllegalArgumentException("Expected " + arity + " link arguments but got " + args.length);
+            }
+            StringBuilder href = new StringBuilder(baseUri);
+            for (int i = 0; i < variables.size(); i++) {
+                href.append(literals.get(i));
+                int arg = variables.get(i);
+                if (arg >= 0) {
+                    href.append(UriUtils.encodePathSegment(String.valueOf(args[arg]), StandardCharsets.UTF_8));
+                }
+            }
+            href.append(literals.get(literals.size() - 1));
+
+            char separator = '?';
+            for (int i = 0; i < queryNames.size(); i++) {
+                Object value = args[queryArgs.get(i)];
+                if (value == null) {
+                    continue;
+                }
+                href.append(separator)
+                        .append(queryNames.get(i))
+                        .append('=')
+                        .append(UriUtils.encodeQueryParam(String.valueOf(value), StandardCharsets.UTF_8));
+                separator = '&';
+            }
+            return href.toString();
+        }
+
+        // name y value son alias; sin ninguno se usa el nombre del parámetro
+        private static String name(String name, String value, MethodParameter parameter) {
+            if (StringUtils.hasText(name)) {
+                return name;
+            }
+            return StringUtils.hasText(value) ? value : parameter.getParameterName();
+        }
+    }
+}
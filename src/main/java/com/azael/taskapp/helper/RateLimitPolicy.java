@@ -0,0 +1,44 @@
+package com.azael.taskapp.helper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parámetros de un límite de peticiones expresados para el algoritmo GCRA
+ * (equivalente a un token bucket con recarga perezosa).
+ *
+ * @param name             Identificador de la política; forma parte de la clave.
+ * @param limit            Peticiones permitidas por minuto.
+ * @param emissionInterval Nanosegundos que tarda en recargarse un permiso.
+ * @param capacity         Ventana máxima en nanosegundos que puede adelantarse
+ *                         el siguiente permiso (tamaño de la ráfaga).
+ */
+public record RateLimitPolicy(String name, int limit, long emissionInterval, long capacity) {
+
+    public static RateLimitPolicy perMinute(String name, int limit, int burst) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Rate limit for " + name + " must be positive");
+        }
+        long emissionInterval = TimeUnit.MINUTES.toNanos(1) / limit;
+        int effectiveBurst = burst > 0 ? burst : limit;
+        return new RateLimitPolicy(name, limit, emissionInterval, emissionInterval * effectiveBurst);
+    }
+
+    /**
+     * Peticiones que se pueden hacer seguidas con el bucket lleno.
+     */
+    public long burst() {
+        return capacity / emissionInterval;
+    }
+
+    /**
+     * Permisos que se pueden conceder de una vez sin exceder la ráfaga.
+     *
+     * @param tat       Tiempo teórico de llegada actual del bucket.
+     * @param now       Instante actual en la misma escala que {@code tat}.
+     * @param requested Permisos solicitados.
+     */
+    public int grantable(long tat, long now, int requested) {
+        long available = (now + capacity - Math.max(tat, now)) / emissionInterval;
+        return (int) Math.max(0, Math.min(requested, available));
+    }
+}
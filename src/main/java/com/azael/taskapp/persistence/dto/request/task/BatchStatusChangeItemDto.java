@@ -0,0 +1,15 @@
+package com.azael.taskapp.persistence.dto.request.task;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "Status change inside a batch")
+public record BatchStatusChangeItemDto(
+                @Schema(description = "The ID of the task", example = "1") @NotNull(message = "Task id is mandatory") Long taskId,
+
+                @Schema(description = "The ID of the new status to assign to the task", example = "2", allowableValues = {
+                                "1",
+                                "2" }) @NotNull(message = "Status is mandatory") @Min(value = 1, message = "Status ID must be at least 1") @Max(value = 2, message = "Status ID must be at most 2") Long statusId) {
+}
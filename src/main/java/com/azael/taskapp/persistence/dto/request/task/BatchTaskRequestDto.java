@@ -0,0 +1,14 @@
+package com.azael.taskapp.persistence.dto.request.task;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+// Los elementos no llevan @Valid: el servicio los valida uno a uno y reporta los errores por posición
+@Schema(description = "Batch of task operations processed in a single transaction")
+public record BatchTaskRequestDto<T>(
+                @Schema(description = "Items of the batch (maximum 500)") @NotEmpty(message = "Items are mandatory") @Size(max = BatchTaskRequestDto.MAX_ITEMS, message = "A batch can contain at most 500 items") List<T> items) {
+        public static final int MAX_ITEMS = 500;
+}
@@ -0,0 +1,17 @@
+package com.azael.taskapp.persistence.dto.request.task;
+
+import com.azael.taskapp.validation.status.StatusExistByid;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+// Cambio parcial: los campos nulos o ausentes no se modifican
+@Schema(description = "Request to partially update a task; omitted fields are left unchanged")
+public record PatchTaskRequestDto(
+                @Schema(description = "The name of the task", example = "Task 1", minLength = 5, maxLength = 100, nullable = true) @Pattern(regexp = ".*\\S.*", message = "Name must not be blank") @Size(min = 5, max = 100, message = "Name should be between 5 to 100 characters") String name,
+
+                @Schema(description = "The description of the task", example = "This is a detailed description of the task", minLength = 10, maxLength = 1000, nullable = true) @Pattern(regexp = "(?s).*\\S.*", message = "Description must not be blank") @Size(min = 10, max = 1000, message = "Description should be between 10 to 1000 characters") String description,
+
+                @Schema(description = "The ID of the status of the task", example = "2", nullable = true) @StatusExistByid Long statusId) {
+}
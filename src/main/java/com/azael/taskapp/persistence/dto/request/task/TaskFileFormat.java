@@ -0,0 +1,54 @@
+package com.azael.taskapp.persistence.dto.request.task;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.azael.taskapp.exceptions.DataInvalidException;
+
+/**
+ * Formatos de archivo para exportar e importar tareas.
+ */
+public enum TaskFileFormat {
+    NDJSON("ndjson", "application/x-ndjson", "tasks.ndjson"),
+    CSV("csv", "text/csv", "tasks.csv");
+
+    private final String parameter;
+    private final String contentType;
+    private final String fileName;
+
+    TaskFileFormat(String parameter, String contentType, String fileName) {
+        this.parameter = parameter;
+        this.contentType = contentType;
+        this.fileName = fileName;
+    }
+
+    public String getParameter() {
+        return parameter;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    /**
+     * Obtiene el formato a partir del parámetro format.
+     *
+     * @throws DataInvalidException Si el formato no está soportado.
+     */
+    public static TaskFileFormat from(String format) throws DataInvalidException {
+        for (TaskFileFormat fileFormat : values()) {
+            if (fileFormat.parameter.equalsIgnoreCase(format)) {
+                return fileFormat;
+            }
+        }
+        Map<String, String> formatError = new HashMap<>();
+        formatError.put("message", "Invalid file format");
+        Map<String, Map<String, String>> errors = new HashMap<>();
+        errors.put("format", formatError);
+        throw new DataInvalidException("Validation failed", errors);
+    }
+}
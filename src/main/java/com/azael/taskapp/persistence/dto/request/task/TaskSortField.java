@@ -0,0 +1,77 @@
+package com.azael.taskapp.persistence.dto.request.task;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Sort;
+
+import com.azael.taskapp.exceptions.DataInvalidException;
+
+/**
+ * Campos por los que se pueden ordenar las tareas.
+ *
+ * Cada uno corresponde a un índice (user_id, columna) de la tabla tasks, de modo
+ * que el listado de un usuario se recorre en el orden del índice en lugar de
+ * ordenar todas sus filas. El id se añade siempre como desempate.
+ */
+public enum TaskSortField {
+    ID("id", "id", Long::valueOf),
+    NAME("name", "name", value -> value),
+    CREATED_AT("createdAt", "createdAt", LocalDateTime::parse),
+    // El estado no admite cursor: muchas tareas comparten el mismo valor
+    STATUS("status", "status.id", null);
+
+    private final String parameter;
+    private final String property;
+    private final Function<String, Object> cursorParser;
+
+    TaskSortField(String parameter, String property, Function<String, Object> cursorParser) {
+        this.parameter = parameter;
+        this.property = property;
+        this.cursorParser = cursorParser;
+    }
+
+    public String getParameter() {
+        return parameter;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public boolean supportsCursor() {
+        return cursorParser != null;
+    }
+
+    /**
+     * Restaura el tipo del valor guardado en un cursor.
+     */
+    public Object parseCursorValue(String value) {
+        return cursorParser.apply(value);
+    }
+
+    public Sort toSort(Sort.Direction direction) {
+        Sort sort = Sort.by(direction, property);
+        return this == ID ? sort : sort.and(Sort.by(direction, ID.property));
+    }
+
+    /**
+     * Obtiene el campo a partir del parámetro sortBy.
+     *
+     * @throws DataInvalidException Si el campo no está permitido.
+     */
+    public static TaskSortField from(String sortBy) throws DataInvalidException {
+        for (TaskSortField field : values()) {
+            if (field.parameter.equals(sortBy)) {
+                return field;
+            }
+        }
+        Map<String, String> sortError = new HashMap<>();
+        sortError.put("message", "Invalid sort field");
+        Map<String, Map<String, String>> errors = new HashMap<>();
+        errors.put("sortBy", sortError);
+        throw new DataInvalidException("Validation failed", errors);
+    }
+}
@@ -0,0 +1,7 @@
+package com.azael.taskapp.persistence.dto.response.catalog;
+
+/**
+ * Respuesta de un catálogo ya serializada a JSON, con su ETag fuerte.
+ */
+public record CatalogPayload(byte[] body, String etag) {
+}
@@ -0,0 +1,18 @@
+package com.azael.taskapp.persistence.dto.response.task;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchTaskResponseDto {
+    private int succeeded;
+
+    private int failed;
+
+    private List<BatchTaskResultDto> results;
+}
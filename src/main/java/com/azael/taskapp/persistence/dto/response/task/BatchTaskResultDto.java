@@ -0,0 +1,22 @@
+package com.azael.taskapp.persistence.dto.response.task;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchTaskResultDto {
+    // Posición del elemento en el lote recibido
+    private int index;
+
+    private String status;
+
+    private TaskResponseDto task;
+
+    // Mismo formato que los errores de validación de los endpoints individuales
+    private Map<String, Map<String, String>> errors;
+}
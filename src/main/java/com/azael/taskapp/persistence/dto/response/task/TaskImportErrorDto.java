@@ -0,0 +1,17 @@
+package com.azael.taskapp.persistence.dto.response.task;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskImportErrorDto {
+    // Línea del archivo en la que empieza la fila rechazada
+    private long line;
+
+    private Map<String, Map<String, String>> errors;
+}
@@ -0,0 +1,26 @@
+package com.azael.taskapp.persistence.dto.response.task;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskImportResultDto {
+    private long rows;
+
+    private long imported;
+
+    private long failed;
+
+    // Lotes procesados por el escritor
+    private long batches;
+
+    private List<TaskImportErrorDto> errors;
+
+    // Indica si se omitieron errores por superar el máximo reportado
+    private boolean errorsTruncated;
+}
@@ -0,0 +1,24 @@
+package com.azael.taskapp.persistence.entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+
+@Entity
+@Data
+@Table(name = "rate_limit_bucket", indexes = {
+        @Index(name = "idx_rate_limit_bucket_tat", columnList = "tat")
+})
+public class RateLimitBucket {
+    // Política y cliente, ej. "user|user:azael"
+    @Id
+    @Column(name = "bucket_key", length = 255)
+    private String key;
+
+    // Tiempo teórico de llegada (GCRA) en nanosegundos desde epoch, compartido entre nodos
+    @Column(nullable = false)
+    private long tat;
+}
@@ -2,25 +2,38 @@ package com.azael.taskapp.persistence.entities;
 
 import java.time.LocalDateTime;
 
+import com.azael.taskapp.persistence.id.TimeOrderedId;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.Data;
 
 @Entity
 @Data
-@Table(name="revoked_token")
+@Table(name="revoked_token", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_revoked_token_token_hash", columnNames = "token_hash")
+}, indexes = {
+        @Index(name = "idx_revoked_token_expires_at", columnList = "expires_at"),
+        // La sincronización entre instancias consulta por revoked_at cada pocos segundos
+        @Index(name = "idx_revoked_token_revoked_at", columnList = "revoked_at")
+})
 public class RevokedToken {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
-    @Column(nullable = false, unique = true)
-    private String token;
+    // SHA-256 del JWT en hexadecimal; nunca se guarda el token completo
+    @Column(name = "token_hash", nullable = false, length = 64, columnDefinition = "CHAR(64)")
+    private String tokenHash;
 
-    @Column(nullable = false)
+    @Column(name = "revoked_at", nullable = false)
     private LocalDateTime revokedAt;
-}
\ No newline at end of file
+
+    // Expiración del propio JWT: a partir de aquí la fila ya no hace falta
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -2,42 +2,55 @@ package com.azael.taskapp.persistence.entities;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 
-import com.azael.taskapp.validation.task.create.CreateUniqueTaskNameForUser;
+import com.azael.taskapp.persistence.id.TimeOrderedId;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
-@Data
+// Sin @Data: equals, hashCode y toString generados leerían status y user e inicializarían los proxies LAZY
+@Getter
+@Setter
 @Entity
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "tasks")
+// Los UPDATE llevan solo las columnas modificadas (PATCH de un solo campo)
+@DynamicUpdate
+// Índices para los listados por usuario: filtrar por user_id y recorrer en el orden pedido.
+// La restricción única (user_id, name) también sirve como índice para ordenar por nombre.
+@Table(name = "tasks", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_tasks_user_name", columnNames = { "user_id", "name" })
+}, indexes = {
+        @Index(name = "idx_tasks_user_created_at", columnList = "user_id, created_at"),
+        @Index(name = "idx_tasks_user_status", columnList = "user_id, status_id")
+})
 public class Task {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
     
     @NotBlank(message = "Name is mandatory")
     @Size(min = 3, max = 50, message = "Name should be between 3 to 50 characters")
     @Column(nullable = false)
-    @CreateUniqueTaskNameForUser
     private String name;
 
     @NotBlank(message = "Description is mandatory")
@@ -45,12 +58,13 @@ public class Task {
     @Column(nullable = false)
     private String description;
 
-    @ManyToOne
+    // LAZY: los listados usan proyecciones o EntityGraph y no necesitan cargar las relaciones por fila
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "status_id", nullable = false)
     @NotNull(message = "status is mandatory")
     private Status status;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     @NotNull(message = "user is mandatory")
     private User user;
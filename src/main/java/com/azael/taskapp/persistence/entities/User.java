@@ -69,6 +69,10 @@ public class User implements UserDetails {
     @Column(name = "is_active", columnDefinition = "BOOLEAN DEFAULT true", nullable = false)
     private boolean isActive;
 
+    // Se incrementa al desactivar o modificar el usuario para invalidar sus tokens
+    @Column(name = "token_version", columnDefinition = "INT DEFAULT 0", nullable = false)
+    private int tokenVersion;
+
     @ManyToOne
     @JoinColumn(name = "role_id", nullable = false)
     @NotNull(message = "role is mandatory")
@@ -0,0 +1,21 @@
+package com.azael.taskapp.persistence.id;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Id generado por la aplicación, ordenado por tiempo, en lugar de
+ * AUTO_INCREMENT. Al conocer el id antes del INSERT, Hibernate puede agrupar
+ * las inserciones en lotes JDBC.
+ */
+@IdGeneratorType(TimeOrderedIdGenerator.class)
+@Retention(RUNTIME)
+@Target({ FIELD, METHOD })
+public @interface TimeOrderedId {
+}
@@ -0,0 +1,131 @@
+package com.azael.taskapp.persistence.id;
+
+import java.lang.reflect.Member;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.EnumSet;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Genera ids de 53 bits: 41 de milisegundos desde 2025-01-01, 4 del nodo y 8
+ * de secuencia. Caben en un Number de JavaScript, crecen con el tiempo (los
+ * índices se llenan por el final) y quedan por encima de los ids AUTO_INCREMENT
+ * ya existentes.
+ *
+ * Cada instancia de la aplicación debe usar un nodo distinto (0 a 15), que se
+ * lee de la propiedad de Hibernate taskapp.id.node-id. Solo puede omitirse si
+ * taskapp.id.instances es 1; con más instancias el arranque falla en lugar de
+ * dejar que todas generen con el nodo 0.
+ *
+ * Antes del primer id se lee el MAX(id) de la tabla y se continúa desde su
+ * milisegundo: si el reloj de la máquina quedó atrás tras un reinicio, los ids
+ * siguen creciendo y no repiten los ya guardados. Si en un milisegundo se
+ * agotan los 256 valores de secuencia, se toma prestado el milisegundo
+ * siguiente en lugar de esperar.
+ */
+public class TimeOrderedIdGenerator implements BeforeExecutionGenerator {
+    public static final String NODE_ID_SETTING = "taskapp.id.node-id";
+    public static final String INSTANCES_SETTING = "taskapp.id.instances";
+
+    private static final Logger log = LoggerFactory.getLogger(TimeOrderedIdGenerator.class);
+
+    private static final long EPOCH = 1735689600000L; // 2025-01-01T00:00:00Z
+    private static final int NODE_BITS = 4;
+    private static final int SEQUENCE_BITS = 8;
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    private static final long RECENT_OTHER_NODE_MILLIS = 60_000;
+
+    private final long node;
+    private final String table;
+    private final String column;
+    private boolean seeded;
+    private long lastMillis = -1;
+    private long sequence;
+
+    public TimeOrderedIdGenerator(TimeOrderedId config, Member member, GeneratorCreationContext context) {
+        ConfigurationService configuration = context.getServiceRegistry().requireService(ConfigurationService.class);
+        this.node = nodeId(configuration);
+        this.table = context.getPersistentClass().getTable().getQuotedName();
+        this.column = context.getPersistentClass().getIdentifier().getColumns().get(0).getQuotedName();
+    }
+
+    private static long nodeId(ConfigurationService configuration) {
+        String nodeId = configuration.getSetting(NODE_ID_SETTING, StandardConverters.STRING, "").trim();
+        if (nodeId.isEmpty()) {
+            int instances = configuration.getSetting(INSTANCES_SETTING, StandardConverters.INTEGER, 1);
+            if (instances > 1) {
+                throw new IllegalStateException(NODE_ID_SETTING + " must be set explicitly when "
+                        + INSTANCES_SETTING + " is " + instances + "; give each instance a different node (0-"
+                        + MAX_NODE + ")");
+            }
+            return 0;
+        }
+        long node = Long.parseLong(nodeId);
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("Id node must be between 0 and " + MAX_NODE + ", got " + node);
+        }
+        return node;
+    }
+
+    @Override
+    public synchronized Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+            EventType eventType) {
+        if (!seeded) {
+            seed(session);
+        }
+        // Si el reloj retrocede se sigue con el último milisegundo usado: los ids nunca se repiten
+        long millis = Math.max(System.currentTimeMillis() - EPOCH, lastMillis);
+        if (millis == lastMillis) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                millis++;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastMillis = millis;
+        return (millis << (NODE_BITS + SEQUENCE_BITS)) | (node << SEQUENCE_BITS) | sequence;
+    }
+
+    /**
+     * Continúa desde el milisegundo del mayor id guardado. Se usa la conexión de
+     * la sesión con JDBC directo para no provocar un flush en medio del persist.
+     */
+    private void seed(SharedSessionContractImplementor session) {
+        long maxId = session.doReturningWork(connection -> {
+            try (Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery("SELECT MAX(" + column + ") FROM " + table)) {
+                return resultSet.next() ? resultSet.getLong(1) : 0L;
+            }
+        });
+        long maxMillis = maxId >>> (NODE_BITS + SEQUENCE_BITS);
+        if (maxMillis > lastMillis) {
+            // Secuencia agotada: el siguiente id de ese milisegundo pasa al siguiente
+            lastMillis = maxMillis;
+            sequence = MAX_SEQUENCE;
+        }
+        seeded = true;
+        long maxNode = (maxId >>> SEQUENCE_BITS) & MAX_NODE;
+        long ageMillis = System.currentTimeMillis() - EPOCH - maxMillis;
+        if (maxId > 0 && maxNode != node && ageMillis >= 0 && ageMillis < RECENT_OTHER_NODE_MILLIS) {
+            log.warn("Latest id in {} was generated {} ms ago by node {}; this instance uses node {}. "
+                    + "If both instances are running, check that every one has its own {}",
+                    table, ageMillis, maxNode, node, NODE_ID_SETTING);
+        }
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -1,11 +1,14 @@
 package com.azael.taskapp.persistence.mappers;
 
+import com.azael.taskapp.persistence.dto.response.role.RoleResponseDto;
 import com.azael.taskapp.persistence.dto.response.status.StatusResponseDto;
 import com.azael.taskapp.persistence.dto.response.task.TaskResponseDto;
 import com.azael.taskapp.persistence.dto.response.user.UserResponseDto;
 import com.azael.taskapp.persistence.entities.Task;
+import com.azael.taskapp.persistence.projections.TaskSummary;
 
 public class TaskMapper {
+    // Lee task.getStatus() y task.getUser(): la consulta debe traerlos (EntityGraph), no hay open-in-view
        public static com.azael.taskapp.persistence.dto.response.task.TaskResponseDto toDTO(Task task) {
         StatusResponseDto status = StatusMapper.toDTO(task.getStatus());
         UserResponseDto user = UserMapper.toDTO(task.getUser());
@@ -17,4 +20,37 @@ public class TaskMapper {
             user
         );
     }
+
+    // Con el usuario ya resuelto, para no inicializar el proxy de task.getUser()
+    public static TaskResponseDto toDTO(Task task, UserResponseDto user) {
+        return new TaskResponseDto(
+            task.getId(),
+            task.getName(),
+            task.getDescription(),
+            StatusMapper.toDTO(task.getStatus()),
+            user
+        );
+    }
+
+    // Misma respuesta a partir de la proyección plana, sin tocar entidades
+    public static TaskResponseDto toDTO(TaskSummary task) {
+        StatusResponseDto status = new StatusResponseDto(task.statusId(), task.statusName());
+        RoleResponseDto role = new RoleResponseDto(task.roleId(), task.roleName());
+        UserResponseDto user = new UserResponseDto(
+            task.userId(),
+            task.userName(),
+            task.username(),
+            task.email(),
+            task.phone(),
+            task.userActive(),
+            role
+        );
+        return new TaskResponseDto(
+            task.id(),
+            task.name(),
+            task.description(),
+            status,
+            user
+        );
+    }
 }
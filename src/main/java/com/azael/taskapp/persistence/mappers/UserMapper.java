@@ -4,6 +4,7 @@ import com.azael.taskapp.persistence.dto.response.role.RoleResponseDto;
 import com.azael.taskapp.persistence.dto.response.user.UserResponseDto;
 import com.azael.taskapp.persistence.entities.Role;
 import com.azael.taskapp.persistence.entities.User;
+import com.azael.taskapp.security.UserSnapshot;
 
 
 public class UserMapper {
@@ -22,6 +23,19 @@ public class UserMapper {
     );
 }
 
+    // Misma respuesta desde la copia en caché del usuario
+    public static UserResponseDto toDTO(UserSnapshot user) {
+        return new UserResponseDto(
+            user.id(),
+            user.name(),
+            user.username(),
+            user.email(),
+            user.phone(),
+            user.active(),
+            new RoleResponseDto(user.roleId(), user.roleName())
+        );
+    }
+
     // // Convertir del DTO UserDTO a la entidad User
     public static User toEntity(UserResponseDto userDTO) {
          // Aquí necesitas convertir el RoleResponseDto en un Role
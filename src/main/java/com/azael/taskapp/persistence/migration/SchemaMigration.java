@@ -0,0 +1,49 @@
+package com.azael.taskapp.persistence.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * Migración de esquema en Java sobre la conexión de Flyway.
+ *
+ * Flyway corre antes de que Hibernate aplique ddl-auto=update, así que en una
+ * base de datos nueva las tablas todavía no existen y ddl-auto las crea ya con
+ * la forma final. Por eso cada migración revisa el esquema actual y solo hace lo
+ * que ddl-auto no sabe hacer sobre una base de datos existente: borrar columnas,
+ * migrar datos o agregar restricciones que los datos actuales podrían violar.
+ *
+ * Las migraciones son beans de Spring; Spring Boot se las pasa a Flyway. La
+ * versión sale del nombre de la clase (V1__Descripcion).
+ */
+public abstract class SchemaMigration extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        // true: la conexión es de Flyway, no se cierra aquí
+        migrate(new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true)));
+    }
+
+    protected abstract void migrate(JdbcTemplate jdbcTemplate) throws Exception;
+
+    protected static boolean tableExists(JdbcTemplate jdbcTemplate, String table) {
+        return count(jdbcTemplate, "SELECT COUNT(*) FROM information_schema.tables "
+                + "WHERE table_schema = DATABASE() AND table_name = ?", table) > 0;
+    }
+
+    protected static boolean columnExists(JdbcTemplate jdbcTemplate, String table, String column) {
+        return count(jdbcTemplate, "SELECT COUNT(*) FROM information_schema.columns "
+                + "WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?", table, column) > 0;
+    }
+
+    protected static boolean indexExists(JdbcTemplate jdbcTemplate, String table, String index) {
+        return count(jdbcTemplate, "SELECT COUNT(*) FROM information_schema.statistics "
+                + "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?", table, index) > 0;
+    }
+
+    private static int count(JdbcTemplate jdbcTemplate, String sql, Object... args) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, args);
+        return count == null ? 0 : count;
+    }
+}
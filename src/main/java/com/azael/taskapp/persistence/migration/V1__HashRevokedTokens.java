@@ -0,0 +1,65 @@
+package com.azael.taskapp.persistence.migration;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pasa revoked_token de guardar el JWT completo (columna token) a guardar su
+ * SHA-256 (token_hash) y su expiración (expires_at).
+ *
+ * ddl-auto=update agrega las columnas nuevas pero nunca borra token, que es
+ * NOT NULL: sin esta migración todas las revocaciones fallarían al insertar.
+ * Las filas existentes se conservan: el digest se calcula en MySQL y, como no
+ * se conoce la expiración de cada token, se usa la más tardía posible (fecha de
+ * revocación más la duración del access token).
+ */
+@Component
+@Slf4j
+public class V1__HashRevokedTokens extends SchemaMigration {
+    private static final String TABLE = "revoked_token";
+    private static final String UNIQUE_NAME = "uk_revoked_token_token_hash";
+
+    @Value("${api.security.token.expiration}")
+    private long TOKEN_EXPIRATION;
+
+    @Override
+    protected void migrate(JdbcTemplate jdbcTemplate) {
+        if (!tableExists(jdbcTemplate, TABLE) || !columnExists(jdbcTemplate, TABLE, "token")) {
+            return; // Base de datos nueva o ya migrada
+        }
+        if (!columnExists(jdbcTemplate, TABLE, "token_hash")) {
+            jdbcTemplate.execute("ALTER TABLE revoked_token ADD COLUMN token_hash CHAR(64) NULL");
+        }
+        if (!columnExists(jdbcTemplate, TABLE, "expires_at")) {
+            jdbcTemplate.execute("ALTER TABLE revoked_token ADD COLUMN expires_at DATETIME(6) NULL");
+        }
+
+        // SHA2 devuelve hexadecimal en minúsculas, igual que HexFormat en RevokedTokenServiceImpl
+        int migrated = jdbcTemplate.update("UPDATE revoked_token SET token_hash = SHA2(token, 256), "
+                + "expires_at = DATE_ADD(revoked_at, INTERVAL ? SECOND) "
+                + "WHERE token_hash IS NULL OR token_hash = ''", (TOKEN_EXPIRATION + 999) / 1000);
+
+        // Borrar token elimina también su índice único
+        jdbcTemplate.execute("ALTER TABLE revoked_token DROP COLUMN token, "
+                + "MODIFY token_hash CHAR(64) NOT NULL, MODIFY expires_at DATETIME(6) NOT NULL");
+
+        // Un solo índice único sobre token_hash, con el nombre que declara la entidad
+        List<String> uniqueIndexes = jdbcTemplate.queryForList("SELECT DISTINCT index_name FROM information_schema.statistics "
+                + "WHERE table_schema = DATABASE() AND table_name = ? AND column_name = 'token_hash' AND non_unique = 0",
+                String.class, TABLE);
+        for (String index : uniqueIndexes) {
+            if (!UNIQUE_NAME.equalsIgnoreCase(index)) {
+                jdbcTemplate.execute("ALTER TABLE revoked_token DROP INDEX `" + index + "`");
+            }
+        }
+        if (!indexExists(jdbcTemplate, TABLE, UNIQUE_NAME)) {
+            jdbcTemplate.execute("ALTER TABLE revoked_token ADD CONSTRAINT " + UNIQUE_NAME + " UNIQUE (token_hash)");
+        }
+        log.info("Migrated {} revoked tokens to SHA-256 digests", migrated);
+    }
+}
@@ -0,0 +1,47 @@
+package com.azael.taskapp.persistence.migration;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Agrega la restricción única uk_tasks_user_name (user_id, name) a una tabla
+ * tasks existente y borra el índice idx_tasks_user_name, que la restricción
+ * vuelve redundante.
+ *
+ * ddl-auto=update intenta crear la restricción pero, si hay nombres repetidos,
+ * solo deja un aviso en el log y la aplicación arranca sin ella. Aquí se
+ * comprueba antes y el arranque falla indicando qué filas hay que corregir.
+ */
+@Component
+@Slf4j
+public class V2__UniqueTaskNamePerUser extends SchemaMigration {
+    private static final String TABLE = "tasks";
+    private static final String UNIQUE_NAME = "uk_tasks_user_name";
+    private static final String REDUNDANT_INDEX = "idx_tasks_user_name";
+
+    @Override
+    protected void migrate(JdbcTemplate jdbcTemplate) {
+        if (!tableExists(jdbcTemplate, TABLE)) {
+            return; // Base de datos nueva: ddl-auto crea la tabla con la restricción
+        }
+        if (!indexExists(jdbcTemplate, TABLE, UNIQUE_NAME)) {
+            // GROUP BY compara con la misma intercalación que usará el índice único
+            List<String> duplicates = jdbcTemplate.queryForList("SELECT CONCAT('user ', user_id, ': ', name) "
+                    + "FROM tasks GROUP BY user_id, name HAVING COUNT(*) > 1 LIMIT 10", String.class);
+            if (!duplicates.isEmpty()) {
+                throw new IllegalStateException("Cannot add " + UNIQUE_NAME + ": tasks has duplicate names per user. "
+                        + "Rename or delete them and restart. First duplicates: " + duplicates);
+            }
+            jdbcTemplate.execute("ALTER TABLE tasks ADD CONSTRAINT " + UNIQUE_NAME + " UNIQUE (user_id, name)");
+            log.info("Added unique constraint {} to tasks", UNIQUE_NAME);
+        }
+        if (indexExists(jdbcTemplate, TABLE, REDUNDANT_INDEX)) {
+            jdbcTemplate.execute("ALTER TABLE tasks DROP INDEX " + REDUNDANT_INDEX);
+            log.info("Dropped index {}, covered by {}", REDUNDANT_INDEX, UNIQUE_NAME);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.azael.taskapp.persistence.migration;
+
+import java.sql.Statement;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Crea el índice FULLTEXT ft_tasks_name_description (parser ngram, sin
+ * stopwords) sobre una tabla tasks existente. ddl-auto no sabe declarar índices
+ * FULLTEXT.
+ *
+ * Bloqueo: crear el primer índice FULLTEXT reconstruye la tabla. Con
+ * LOCK=SHARED las lecturas siguen funcionando pero los INSERT, UPDATE y DELETE
+ * sobre tasks esperan hasta que termine, lo que en una tabla grande puede
+ * llevar minutos. Flyway la ejecuta una sola vez y en una sola instancia (las
+ * demás esperan su bloqueo de historial), así que conviene desplegarla en una
+ * ventana de poca escritura. Si MySQL no puede mantener las lecturas, la
+ * sentencia falla en lugar de bloquear la tabla por completo.
+ *
+ * En una base de datos nueva la tabla aún no existe; TaskSearchServiceImpl crea
+ * el índice al arrancar mientras la tabla está vacía.
+ */
+@Component
+@Slf4j
+public class V3__TaskFullTextIndex extends SchemaMigration {
+    private static final String TABLE = "tasks";
+    private static final String INDEX_NAME = "ft_tasks_name_description";
+
+    @Override
+    protected void migrate(JdbcTemplate jdbcTemplate) {
+        if (!tableExists(jdbcTemplate, TABLE) || indexExists(jdbcTemplate, TABLE, INDEX_NAME)) {
+            return; // Base de datos nueva, o índice creado al arrancar una versión anterior
+        }
+        long start = System.currentTimeMillis();
+        log.info("Creating full-text index {} on tasks; writes to tasks wait until it finishes", INDEX_NAME);
+        // La variable es de sesión y se lee al crear el índice: ambas sentencias en la misma conexión
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET SESSION innodb_ft_enable_stopword = 0");
+                try {
+                    statement.execute("ALTER TABLE tasks ADD FULLTEXT INDEX " + INDEX_NAME
+                            + " (name, description) WITH PARSER ngram, ALGORITHM=INPLACE, LOCK=SHARED");
+                } finally {
+                    statement.execute("SET SESSION innodb_ft_enable_stopword = DEFAULT");
+                }
+            }
+            return null;
+        });
+        log.info("Created full-text index {} in {} ms", INDEX_NAME, System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,8 @@
+package com.azael.taskapp.persistence.projections;
+
+/**
+ * Nombre de una tarea junto con su id y el de su dueño, para comprobar la
+ * unicidad de los nombres de un lote con una sola consulta.
+ */
+public record TaskName(Long id, Long userId, String name) {
+}
@@ -0,0 +1,25 @@
+package com.azael.taskapp.persistence.projections;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fila plana de una tarea con su estado y un resumen del usuario (sin la
+ * contraseña), obtenida con una sola consulta con JOIN.
+ */
+public record TaskSummary(
+        Long id,
+        String name,
+        String description,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long statusId,
+        String statusName,
+        Long userId,
+        String userName,
+        String username,
+        String email,
+        String phone,
+        boolean userActive,
+        Long roleId,
+        String roleName) {
+}
@@ -0,0 +1,40 @@
+package com.azael.taskapp.persistence.repositories;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.azael.taskapp.persistence.entities.RateLimitBucket;
+
+import jakarta.persistence.LockModeType;
+import jakarta.transaction.Transactional;
+
+@Repository
+public interface RateLimitBucketRepository extends JpaRepository<RateLimitBucket, String> {
+    // Crea el bucket si no existe sin fallar cuando otro nodo lo creó a la vez
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO rate_limit_bucket (bucket_key, tat) VALUES (:key, :tat)", nativeQuery = true)
+    int insertIfAbsent(@Param("key") String key, @Param("tat") long tat);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM RateLimitBucket b WHERE b.key = :key")
+    Optional<RateLimitBucket> findForUpdate(@Param("key") String key);
+
+    // Nunca por debajo de now: un bucket lleno no acumula permisos extra
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE rate_limit_bucket SET tat = GREATEST(:now, tat - :refund) WHERE bucket_key = :key",
+            nativeQuery = true)
+    int refund(@Param("key") String key, @Param("refund") long refund, @Param("now") long now);
+
+    // Un bucket recargado por completo equivale a uno nuevo
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM rate_limit_bucket WHERE tat < :now LIMIT :limit", nativeQuery = true)
+    int deleteIdleBatch(@Param("now") long now, @Param("limit") int limit);
+}
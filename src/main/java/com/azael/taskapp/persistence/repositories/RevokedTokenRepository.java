@@ -1,11 +1,26 @@
 package com.azael.taskapp.persistence.repositories;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.azael.taskapp.persistence.entities.RevokedToken;
 
+import jakarta.transaction.Transactional;
+
 @Repository
 public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
-    boolean existsByToken(String token);
+    List<RevokedToken> findByExpiresAtAfter(LocalDateTime expiresAt);
+    List<RevokedToken> findByRevokedAtAfter(LocalDateTime revokedAt);
+
+    // Cada lote corre en su propia transacción para no bloquear la tabla durante la purga completa
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM revoked_token WHERE expires_at < :now LIMIT :limit", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
@@ -3,28 +3,146 @@ package com.azael.taskapp.persistence.repositories;
 import org.springframework.stereotype.Repository;
 
 import com.azael.taskapp.persistence.entities.Task;
+import com.azael.taskapp.persistence.projections.TaskName;
+import com.azael.taskapp.persistence.projections.TaskSummary;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
-    // @Query(value = "SELECT CASE WHEN COUNT(*) > 0 THEN true ELSE false END FROM tasks WHERE user_id = :userId AND name = :name", nativeQuery = true)
-    boolean existsByUserIdAndName(@Param("userId") Long userId, @Param("name") String name);
-    boolean existsByUserIdAndNameAndIdNot(Long userId, String name, Long id);
-    Page<Task> findByNameLike(String name, Pageable pageable);
-    Page<Task> findByUserId(Pageable pageable, Long userId);
-    
-    @Query("SELECT t FROM Task t WHERE LOWER(t.name) LIKE LOWER(CONCAT('%', :name, '%')) AND t.user.id = :userId")
-    Page<Task> findByNameLikeAndUserId(@Param("name") String name, Pageable pageable, @Param("userId") Long userId);
-
-    @Query("SELECT t FROM Task t WHERE t.user.id = :userId")
-    Page<Task> findAllAndUserId(Pageable pageable, @Param("userId") Long userId);
+    // Tarea, estado, usuario y rol en una sola consulta, sin cargar entidades
+    String TASK_SUMMARY = "SELECT new com.azael.taskapp.persistence.projections.TaskSummary("
+            + "t.id, t.name, t.description, t.createdAt, t.updatedAt, s.id, s.name, "
+            + "u.id, u.name, u.username, u.email, u.phone, u.isActive, r.id, r.name) "
+            + "FROM Task t JOIN t.status s JOIN t.user u JOIN u.role r ";
+    // Mismas columnas que el índice FULLTEXT, para que el resultado no dependa de qué búsqueda se use
+    String NAME_FILTER = "(LOWER(t.name) LIKE LOWER(CONCAT('%', :name, '%')) "
+            + "OR LOWER(t.description) LIKE LOWER(CONCAT('%', :name, '%')))";
+
     @Query("SELECT t FROM Task t WHERE t.id = :id AND t.user.id = :userId")
     Optional<Task> findByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    long countByUserId(Long userId);
+
+    // Operaciones por lote: una sola consulta para todas las tareas o nombres del lote
+    @EntityGraph(attributePaths = { "status", "user", "user.role" })
+    List<Task> findAllByIdInAndUserId(Collection<Long> ids, Long userId);
+
+    @Query("SELECT new com.azael.taskapp.persistence.projections.TaskName(t.id, t.user.id, t.name) "
+            + "FROM Task t WHERE t.user.id IN :userIds AND t.name IN :names")
+    List<TaskName> findNamesByUserIdInAndNameIn(@Param("userIds") Collection<Long> userIds,
+            @Param("names") Collection<String> names);
+
+    @Query(TASK_SUMMARY + "WHERE t.id = :id")
+    Optional<TaskSummary> findSummaryById(@Param("id") Long id);
+
+    @Query(TASK_SUMMARY + "WHERE t.id = :id AND u.id = :userId")
+    Optional<TaskSummary> findSummaryByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    // Listados paginados con total exacto
+    @Query(value = TASK_SUMMARY, countQuery = "SELECT COUNT(t) FROM Task t")
+    Page<TaskSummary> findSummaries(Pageable pageable);
+
+    @Query(value = TASK_SUMMARY + "WHERE " + NAME_FILTER,
+            countQuery = "SELECT COUNT(t) FROM Task t WHERE " + NAME_FILTER)
+    Page<TaskSummary> findSummariesByName(@Param("name") String name, Pageable pageable);
+
+    @Query(value = TASK_SUMMARY + "WHERE u.id = :userId",
+            countQuery = "SELECT COUNT(t) FROM Task t WHERE t.user.id = :userId")
+    Page<TaskSummary> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(value = TASK_SUMMARY + "WHERE " + NAME_FILTER + " AND u.id = :userId",
+            countQuery = "SELECT COUNT(t) FROM Task t WHERE " + NAME_FILTER + " AND t.user.id = :userId")
+    Page<TaskSummary> findSummariesByNameAndUserId(@Param("name") String name, @Param("userId") Long userId,
+            Pageable pageable);
+
+    // Mismas consultas sin COUNT: solo saben si hay página siguiente
+    @Query(TASK_SUMMARY)
+    Slice<TaskSummary> findSummarySlice(Pageable pageable);
+
+    @Query(TASK_SUMMARY + "WHERE " + NAME_FILTER)
+    Slice<TaskSummary> findSummarySliceByName(@Param("name") String name, Pageable pageable);
+
+    @Query(TASK_SUMMARY + "WHERE u.id = :userId")
+    Slice<TaskSummary> findSummarySliceByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(TASK_SUMMARY + "WHERE " + NAME_FILTER + " AND u.id = :userId")
+    Slice<TaskSummary> findSummarySliceByNameAndUserId(@Param("name") String name, @Param("userId") Long userId,
+            Pageable pageable);
+
+    @Query(TASK_SUMMARY + "WHERE t.id IN :ids")
+    List<TaskSummary> findSummariesByIdIn(@Param("ids") List<Long> ids);
+
+    // Exportación: cursor de solo avance. Con fetch size Integer.MIN_VALUE el driver de MySQL
+    // entrega las filas una a una en lugar de cargar el resultado completo en memoria.
+    String STREAM_FETCH_SIZE = "-2147483648";
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = STREAM_FETCH_SIZE))
+    @Query(TASK_SUMMARY + "ORDER BY t.id")
+    Stream<TaskSummary> streamSummaries();
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = STREAM_FETCH_SIZE))
+    @Query(TASK_SUMMARY + "WHERE u.id = :userId ORDER BY t.id")
+    Stream<TaskSummary> streamSummariesByUserId(@Param("userId") Long userId);
+
+    // Búsqueda en el índice FULLTEXT (name, description), ordenada por relevancia
+    String FULLTEXT_MATCH = "MATCH(t.name, t.description) AGAINST(:query IN BOOLEAN MODE)";
+
+    @Query(value = "SELECT t.id FROM tasks t WHERE " + FULLTEXT_MATCH
+            + " ORDER BY " + FULLTEXT_MATCH + " DESC, t.id LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Long> searchIds(@Param("query") String query, @Param("limit") int limit, @Param("offset") long offset);
+
+    @Query(value = "SELECT t.id FROM tasks t WHERE " + FULLTEXT_MATCH + " AND t.user_id = :userId"
+            + " ORDER BY " + FULLTEXT_MATCH + " DESC, t.id LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Long> searchIdsByUserId(@Param("query") String query, @Param("userId") Long userId,
+            @Param("limit") int limit, @Param("offset") long offset);
+
+    @Query(value = "SELECT COUNT(*) FROM tasks t WHERE " + FULLTEXT_MATCH, nativeQuery = true)
+    long countSearch(@Param("query") String query);
+
+    @Query(value = "SELECT COUNT(*) FROM tasks t WHERE " + FULLTEXT_MATCH + " AND t.user_id = :userId",
+            nativeQuery = true)
+    long countSearchByUserId(@Param("query") String query, @Param("userId") Long userId);
+
+    // Paginación por keyset: buscan a partir de la última fila entregada, sin OFFSET ni COUNT.
+    // El EntityGraph trae estado, usuario y rol en la misma consulta.
+    @EntityGraph(attributePaths = { "status", "user", "user.role" })
+    Window<Task> findWindowBy(ScrollPosition position, Sort sort, Limit limit);
+    @EntityGraph(attributePaths = { "status", "user", "user.role" })
+    Window<Task> findWindowByUserId(Long userId, ScrollPosition position, Sort sort, Limit limit);
+    @EntityGraph(attributePaths = { "status", "user", "user.role" })
+    Window<Task> findWindowByNameContainingIgnoreCase(String name, ScrollPosition position, Sort sort, Limit limit);
+    @EntityGraph(attributePaths = { "status", "user", "user.role" })
+    Window<Task> findWindowByNameContainingIgnoreCaseAndUserId(String name, Long userId, ScrollPosition position,
+            Sort sort, Limit limit);
+
+    // Orden por createdAt: las filas antiguas sin fecha no tienen posición en el keyset y se omiten
+    @EntityGraph(attributePaths = { "status", "user", "user.role" })
+    Window<Task> findWindowByCreatedAtNotNull(ScrollPosition position, Sort sort, Limit limit);
+    @EntityGraph(attributePaths = { "status", "user", "user.role" })
+    Window<Task> findWindowByUserIdAndCreatedAtNotNull(Long userId, ScrollPosition position, Sort sort, Limit limit);
+    @EntityGraph(attributePaths = { "status", "user", "user.role" })
+    Window<Task> findWindowByNameContainingIgnoreCaseAndCreatedAtNotNull(String name, ScrollPosition position,
+            Sort sort, Limit limit);
+    @EntityGraph(attributePaths = { "status", "user", "user.role" })
+    Window<Task> findWindowByNameContainingIgnoreCaseAndUserIdAndCreatedAtNotNull(String name, Long userId,
+            ScrollPosition position, Sort sort, Limit limit);
 }
\ No newline at end of file
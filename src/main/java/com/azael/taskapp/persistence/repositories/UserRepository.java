@@ -3,6 +3,7 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -30,7 +31,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
         String email,
         Pageable pageable
     );
-    
+
+    // Variantes sin COUNT para listados que no piden el total
+    Slice<User> findSliceBy(Pageable pageable);
+    Slice<User> findSliceByNameLikeOrEmailLike(String name, String email, Pageable pageable);
+
 
     boolean existsByEmail(String email);
     boolean existsByUsername(String username);
@@ -40,4 +45,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     @Query("SELECT COUNT(u) > 0 FROM User u WHERE u.username = :username AND u.id != :id")
     boolean existsByUsernameAndIdNot(@Param("username") String username, @Param("id") Long id);
+
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
 }
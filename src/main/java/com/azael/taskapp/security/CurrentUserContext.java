@@ -0,0 +1,116 @@
+package com.azael.taskapp.security;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import com.azael.taskapp.exceptions.ServiceLogicException;
+import com.azael.taskapp.persistence.entities.User;
+import com.azael.taskapp.services.UserCacheService;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Usuario autenticado de la petición en curso.
+ *
+ * Se resuelve a partir del principal de seguridad como mucho una vez por
+ * petición y lo comparten servicios, validadores y helpers. Al terminar la
+ * petición publica cuántas búsquedas de usuario se hicieron en ella.
+ */
+@Component
+@RequestScope
+public class CurrentUserContext {
+    private static final long ADMIN_ROLE_ID = 1L;
+
+    private final UserCacheService userCacheService;
+    private final DistributionSummary lookupsPerRequest;
+
+    private UserSnapshot user;
+    private int lookups;
+
+    public CurrentUserContext(UserCacheService userCacheService, MeterRegistry meterRegistry) {
+        this.userCacheService = userCacheService;
+        this.lookupsPerRequest = DistributionSummary.builder("taskapp.requests.user_lookups")
+                .description("User lookups performed while serving a single request")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Id del usuario autenticado. Nunca consulta la base de datos.
+     */
+    public Long getUserId() throws ServiceLogicException {
+        Object principal = getAuthentication().getPrincipal();
+        if (principal instanceof UserSnapshot currentUser) {
+            return currentUser.id();
+        }
+        if (principal instanceof JwtPrincipal jwtPrincipal) {
+            return jwtPrincipal.id();
+        }
+        return getUser().id();
+    }
+
+    /**
+     * Indica si el usuario autenticado es administrador. Nunca consulta la base
+     * de datos cuando el principal es un UserSnapshot o un JwtPrincipal.
+     */
+    public boolean isAdmin() throws ServiceLogicException {
+        Object principal = getAuthentication().getPrincipal();
+        if (principal instanceof JwtPrincipal jwtPrincipal) {
+            return jwtPrincipal.roleId() == ADMIN_ROLE_ID;
+        }
+        return getUser().roleId() == ADMIN_ROLE_ID;
+    }
+
+    /**
+     * Datos del usuario autenticado (copia inmutable, no una entidad). Si el
+     * filtro JWT ya los cargó se reutilizan; si no, se buscan una sola vez y se
+     * conservan durante la petición. Para asignarlo a una relación se usa
+     * {@code userRepository.getReferenceById(getUserId())}.
+     */
+    public UserSnapshot getUser() throws ServiceLogicException {
+        if (user != null) {
+            return user;
+        }
+        Authentication authentication = getAuthentication();
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof UserSnapshot currentUser) {
+            user = currentUser;
+            return user;
+        }
+        if (principal instanceof User currentUser) {
+            user = UserSnapshot.of(currentUser);
+            return user;
+        }
+        lookups++;
+        user = (principal instanceof JwtPrincipal jwtPrincipal
+                ? userCacheService.findById(jwtPrincipal.id())
+                : userCacheService.findByUsername(authentication.getName()))
+                .orElseThrow(() -> new ServiceLogicException("User not found"));
+        return user;
+    }
+
+    /**
+     * Registra una búsqueda de usuario hecha fuera de este contexto (por ejemplo,
+     * la del filtro JWT en modo con estado).
+     */
+    public void recordLookup() {
+        lookups++;
+    }
+
+    @PreDestroy
+    public void publishLookups() {
+        lookupsPerRequest.record(lookups);
+    }
+
+    private Authentication getAuthentication() throws ServiceLogicException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        // Validar que el usuario esté autenticado
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new ServiceLogicException("No authenticated user");
+        }
+        return authentication;
+    }
+}
@@ -0,0 +1,62 @@
+package com.azael.taskapp.security;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Principal ligero construido a partir de los claims del JWT, sin consultar la
+ * tabla de usuarios. Solo se usa en modo stateless.
+ */
+public record JwtPrincipal(Long id, String username, Long roleId, String roleName, boolean active, int tokenVersion)
+        implements UserDetails {
+
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE_ID = "rid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_ACTIVE = "active";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
+    /**
+     * Indica si el token trae los claims necesarios para construir el principal
+     * (los tokens emitidos antes del modo stateless no los tienen).
+     */
+    public static boolean isPresentIn(Claims claims) {
+        return claims.get(CLAIM_USER_ID) != null && claims.get(CLAIM_TOKEN_VERSION) != null;
+    }
+
+    public static JwtPrincipal fromClaims(Claims claims) {
+        return new JwtPrincipal(
+                claims.get(CLAIM_USER_ID, Number.class).longValue(),
+                claims.getSubject(),
+                claims.get(CLAIM_ROLE_ID, Number.class).longValue(),
+                claims.get(CLAIM_ROLE, String.class),
+                Boolean.TRUE.equals(claims.get(CLAIM_ACTIVE, Boolean.class)),
+                claims.get(CLAIM_TOKEN_VERSION, Number.class).intValue());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + roleName));
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return active;
+    }
+}
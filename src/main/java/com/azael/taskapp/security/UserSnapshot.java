@@ -0,0 +1,52 @@
+package com.azael.taskapp.security;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.azael.taskapp.persistence.entities.User;
+
+/**
+ * Copia inmutable de los datos de un usuario que necesitan la autenticación y
+ * las respuestas, sin el hash de la contraseña.
+ *
+ * Es lo que guarda la caché de usuarios y el principal del modo con estado: se
+ * comparte entre peticiones sin riesgo porque no es una entidad. Cuando una
+ * escritura necesita el usuario como relación se usa
+ * {@code userRepository.getReferenceById(id)}.
+ */
+public record UserSnapshot(Long id, String name, String username, String email, String phone, Long roleId,
+        String roleName, boolean active, int tokenVersion) implements UserDetails {
+
+    public static UserSnapshot of(User user) {
+        return new UserSnapshot(
+                user.getId(),
+                user.getName(),
+                user.getUsername(),
+                user.getEmail(),
+                user.getPhone(),
+                user.getRole().getId(),
+                user.getRole().getName(),
+                user.isActive(),
+                user.getTokenVersion());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + roleName));
+    }
+
+    // La contraseña solo se lee de la base de datos al iniciar sesión
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+}
@@ -11,7 +11,7 @@ import com.azael.taskapp.persistence.dto.request.auth.RefreshTokenRequestDto;
 import com.azael.taskapp.persistence.dto.request.auth.RegisterRequestDto;
 import com.azael.taskapp.persistence.dto.response.auth.LoginResponseDto;
 import com.azael.taskapp.persistence.dto.response.user.UserResponseDto;
-import com.azael.taskapp.persistence.entities.User;
+import com.azael.taskapp.security.UserSnapshot;
 
 import jakarta.validation.ConstraintViolationException;
 
@@ -20,7 +20,7 @@ public interface AuthService {
     LoginResponseDto login(LoginRequestDto request) throws BadCredentialsException, InvalidAuthException, ServiceLogicException;
     //RegisterResponseDto register(RegisterRequestDto request);
     UserResponseDto register(RegisterRequestDto request) throws ServiceLogicException, DataInvalidException, ConstraintViolationException;
-    User me();
+    UserSnapshot me();
     LoginResponseDto refreshToken(String authHeader, RefreshTokenRequestDto request) throws ServiceLogicException;
     void logout(String authHeader) throws ServiceLogicException;
 }
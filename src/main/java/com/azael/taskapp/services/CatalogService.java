@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.stereotype.Service;
 
 import com.azael.taskapp.exceptions.ServiceLogicException;
+import com.azael.taskapp.persistence.dto.response.catalog.CatalogPayload;
 import com.azael.taskapp.persistence.entities.Role;
 import com.azael.taskapp.persistence.entities.Status;
 
@@ -12,4 +13,7 @@ import com.azael.taskapp.persistence.entities.Status;
 public interface CatalogService {
     List<Status> getAllStatus() throws ServiceLogicException;
     List<Role> getAllRoles() throws ServiceLogicException;
+    CatalogPayload getStatusPayload();
+    CatalogPayload getRolesPayload();
+    void refresh() throws ServiceLogicException;
 }
@@ -21,5 +21,9 @@ public interface JwtService {
 
     long getExpirationTime();
 
+    Claims parseToken(String token);
+
     boolean isTokenValid(String token, UserDetails userDetails);
+
+    boolean isTokenValid(String token, Claims claims, UserDetails userDetails);
 }
\ No newline at end of file
@@ -2,8 +2,21 @@ package com.azael.taskapp.services;
 
 import org.springframework.stereotype.Service;
 
+import com.azael.taskapp.helper.RateLimitPolicy;
+
 @Service
 public interface RateLimitService {
-    boolean isAllowed(String ip);
-    void reset();
-}
\ No newline at end of file
+    /**
+     * Consume un permiso de la clave si hay disponible.
+     *
+     * @return 0 si la petición se permite; si no, nanosegundos hasta el
+     *         siguiente permiso.
+     */
+    long tryAcquire(String key, RateLimitPolicy policy);
+
+    default boolean isAllowed(String key, RateLimitPolicy policy) {
+        return tryAcquire(key, policy) == 0;
+    }
+
+    void evictIdle();
+}
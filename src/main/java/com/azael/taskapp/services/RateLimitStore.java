@@ -0,0 +1,31 @@
+package com.azael.taskapp.services;
+
+import org.springframework.stereotype.Service;
+
+import com.azael.taskapp.helper.RateLimitPolicy;
+
+/**
+ * Almacén de cuotas compartido entre las instancias de la aplicación.
+ */
+@Service
+public interface RateLimitStore {
+    /**
+     * Reserva hasta {@code permits} permisos del bucket compartido.
+     *
+     * @return Permisos concedidos (0 si el cliente agotó su límite).
+     */
+    int acquire(String key, RateLimitPolicy policy, int permits);
+
+    /**
+     * Devuelve al bucket compartido permisos reservados que no se usaron,
+     * retrasando su TAT sin dejarlo antes del instante actual.
+     */
+    void release(String key, RateLimitPolicy policy, int permits);
+
+    /**
+     * Elimina los buckets que ya se recargaron por completo.
+     *
+     * @return Número de buckets eliminados.
+     */
+    int purgeIdle();
+}
@@ -0,0 +1,20 @@
+package com.azael.taskapp.services;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+
+import com.azael.taskapp.persistence.entities.Role;
+import com.azael.taskapp.persistence.entities.Status;
+
+@Service
+public interface ReferenceDataRegistry {
+    Optional<Status> findStatus(Long id);
+    Optional<Role> findRole(Long id);
+    boolean statusExists(Long id);
+    boolean roleExists(Long id);
+    List<Status> getStatuses();
+    List<Role> getRoles();
+    void reload();
+}
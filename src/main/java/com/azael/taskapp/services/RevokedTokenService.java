@@ -0,0 +1,13 @@
+package com.azael.taskapp.services;
+
+import java.util.Date;
+
+import org.springframework.stereotype.Service;
+
+@Service
+public interface RevokedTokenService {
+    void revoke(String token, Date expiresAt);
+    boolean isRevoked(String token);
+    void synchronize();
+    int purgeExpired();
+}
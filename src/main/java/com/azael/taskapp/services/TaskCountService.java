@@ -0,0 +1,12 @@
+package com.azael.taskapp.services;
+
+import org.springframework.stereotype.Service;
+
+@Service
+public interface TaskCountService {
+    long countForUser(Long userId);
+    long countAll();
+    void recordCreated(Long userId);
+    void recordCreated(Long userId, int count);
+    void recordDeleted(Long userId);
+}
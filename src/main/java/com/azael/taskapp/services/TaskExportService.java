@@ -0,0 +1,12 @@
+package com.azael.taskapp.services;
+
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.azael.taskapp.exceptions.ServiceLogicException;
+import com.azael.taskapp.persistence.dto.request.task.TaskFileFormat;
+
+@Service
+public interface TaskExportService {
+    StreamingResponseBody export(TaskFileFormat format) throws ServiceLogicException;
+}
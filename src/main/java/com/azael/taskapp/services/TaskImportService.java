@@ -0,0 +1,15 @@
+package com.azael.taskapp.services;
+
+import java.io.InputStream;
+
+import org.springframework.stereotype.Service;
+
+import com.azael.taskapp.exceptions.DataInvalidException;
+import com.azael.taskapp.exceptions.ServiceLogicException;
+import com.azael.taskapp.persistence.dto.request.task.TaskFileFormat;
+import com.azael.taskapp.persistence.dto.response.task.TaskImportResultDto;
+
+@Service
+public interface TaskImportService {
+    TaskImportResultDto importTasks(InputStream body, TaskFileFormat format) throws ServiceLogicException, DataInvalidException;
+}
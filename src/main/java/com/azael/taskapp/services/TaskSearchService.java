@@ -0,0 +1,14 @@
+package com.azael.taskapp.services;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+import com.azael.taskapp.persistence.projections.TaskSummary;
+
+@Service
+public interface TaskSearchService {
+    boolean supports(String term);
+    Slice<TaskSummary> search(String term, Long userId, Pageable pageable, boolean count);
+    void rebuild();
+}
@@ -1,23 +1,38 @@
 package com.azael.taskapp.services;
 
-import org.springframework.data.domain.Page;
+import java.util.List;
+
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 
 import com.azael.taskapp.exceptions.DataInvalidException;
 import com.azael.taskapp.exceptions.NotFoundException;
 import com.azael.taskapp.exceptions.ServiceLogicException;
+import com.azael.taskapp.persistence.dto.request.task.BatchCreateTaskItemDto;
+import com.azael.taskapp.persistence.dto.request.task.BatchStatusChangeItemDto;
+import com.azael.taskapp.persistence.dto.request.task.BatchUpdateTaskItemDto;
 import com.azael.taskapp.persistence.dto.request.task.CreateTaskRequestDto;
+import com.azael.taskapp.persistence.dto.request.task.PatchTaskRequestDto;
+import com.azael.taskapp.persistence.dto.request.task.TaskSortField;
 import com.azael.taskapp.persistence.dto.request.task.UpdateTaskRequestDto;
+import com.azael.taskapp.persistence.dto.response.task.BatchTaskResponseDto;
 import com.azael.taskapp.persistence.dto.response.task.TaskResponseDto;
 import com.azael.taskapp.persistence.entities.Task;
+import com.azael.taskapp.persistence.projections.TaskSummary;
 
 @Service
 public interface TaskService {
-        Page<Task> getAll(int page, int size, Sort sort, String name) throws ServiceLogicException;
+        Slice<TaskSummary> getAll(int page, int size, Sort sort, String name, boolean count) throws ServiceLogicException;
+        Window<Task> scroll(String cursor, int size, Sort.Direction direction, TaskSortField sortField, String name) throws ServiceLogicException, DataInvalidException;
         TaskResponseDto show(Long id) throws NotFoundException, ServiceLogicException;
         TaskResponseDto changeStatus(Long id, Long StatusId) throws NotFoundException, ServiceLogicException;
         TaskResponseDto create(CreateTaskRequestDto newTaskDetails) throws ServiceLogicException, DataInvalidException;
         TaskResponseDto update(UpdateTaskRequestDto newTaskDetails, Long id) throws NotFoundException, ServiceLogicException, DataInvalidException;
+        TaskResponseDto patch(PatchTaskRequestDto changes, Long id) throws NotFoundException, ServiceLogicException, DataInvalidException;
         void delete(Long id) throws NotFoundException, ServiceLogicException;
+        BatchTaskResponseDto createBatch(List<BatchCreateTaskItemDto> items) throws ServiceLogicException, DataInvalidException;
+        BatchTaskResponseDto updateBatch(List<BatchUpdateTaskItemDto> items) throws ServiceLogicException, DataInvalidException;
+        BatchTaskResponseDto changeStatusBatch(List<BatchStatusChangeItemDto> items) throws ServiceLogicException, DataInvalidException;
 }
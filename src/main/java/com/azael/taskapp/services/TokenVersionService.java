@@ -0,0 +1,9 @@
+package com.azael.taskapp.services;
+
+import org.springframework.stereotype.Service;
+
+@Service
+public interface TokenVersionService {
+    boolean isCurrent(Long userId, int tokenVersion);
+    void update(Long userId, int tokenVersion);
+}
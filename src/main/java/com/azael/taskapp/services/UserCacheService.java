@@ -0,0 +1,14 @@
+package com.azael.taskapp.services;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+
+import com.azael.taskapp.security.UserSnapshot;
+
+@Service
+public interface UserCacheService {
+    Optional<UserSnapshot> findByUsername(String username);
+    Optional<UserSnapshot> findById(Long id);
+    void evict(Long id, String... usernames);
+}
@@ -1,6 +1,6 @@
 package com.azael.taskapp.services;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
@@ -16,7 +16,7 @@ import com.azael.taskapp.persistence.entities.User;
 @Service
 public interface UserService {
         UserResponseDto register(CreateUserRequestDto newUserDetails) throws ServiceLogicException, DataInvalidException;
-        Page<User> getAll(int page, int size, Sort sort, String name, String email) throws ServiceLogicException;
+        Slice<User> getAll(int page, int size, Sort sort, String name, String email, boolean count) throws ServiceLogicException;
         UserResponseDto update(UpdateUserRequestDto newUserDetails, Long id) throws NotFoundException, ServiceLogicException, DataInvalidException;
         void delete(Long id) throws NotFoundException, ServiceLogicException;
         UserResponseDto show(Long id) throws NotFoundException, ServiceLogicException;
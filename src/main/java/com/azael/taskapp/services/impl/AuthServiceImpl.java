@@ -1,6 +1,5 @@
 package com.azael.taskapp.services.impl;
 
-import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.Optional;
 
@@ -10,7 +9,6 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
@@ -23,17 +21,19 @@ import com.azael.taskapp.persistence.dto.request.auth.RegisterRequestDto;
 import com.azael.taskapp.persistence.dto.response.auth.LoginResponseDto;
 import com.azael.taskapp.persistence.dto.response.user.UserResponseDto;
 import com.azael.taskapp.persistence.repositories.UserRepository;
-import com.azael.taskapp.persistence.repositories.RevokedTokenRepository;
-import com.azael.taskapp.persistence.repositories.RoleRepository;
+import com.azael.taskapp.security.CurrentUserContext;
+import com.azael.taskapp.security.UserSnapshot;
 import com.azael.taskapp.services.AuthService;
+import com.azael.taskapp.services.ReferenceDataRegistry;
+import com.azael.taskapp.services.RevokedTokenService;
 
+import io.jsonwebtoken.Claims;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 
 import com.azael.taskapp.persistence.entities.User;
 import com.azael.taskapp.persistence.mappers.UserMapper;
 import com.azael.taskapp.persistence.entities.RefreshToken;
-import com.azael.taskapp.persistence.entities.RevokedToken;
 import com.azael.taskapp.persistence.entities.Role;
 
 @Component
@@ -48,17 +48,20 @@ public class AuthServiceImpl implements AuthService {
     @Autowired
     private BCryptPasswordEncoder passwordEncoder;
     @Autowired
-    private RoleRepository roleRepository;
+    private ReferenceDataRegistry referenceDataRegistry;
     @Autowired
     private RefreshTokenServiceImpl refreshTokenService;
     @Autowired
-    private RevokedTokenRepository revokedTokenRepository;
+    private RevokedTokenService revokedTokenService;
+    @Autowired
+    private CurrentUserContext currentUserContext;
     @Value("${api.security.token.refresh-token-expiration}")
     private int REFRESH_TOKEN_EXPIRATION;
     //private static final int REFRESH_TOKEN_EXPIRATION = 60 * 24 * 7; // 7 días
     @Transactional
     @Override
     public LoginResponseDto login(LoginRequestDto request) throws BadCredentialsException, InvalidAuthException {
+            // Consulta directa, no la caché: mismo criterio de username que antes y el hash se lee una sola vez al autenticar
             Optional<User> user = userRepository.findByUsernameAndIsActive(request.username(), true);
             if (user.isEmpty()) {
                 throw new InvalidAuthException("Invalid Credentials");
@@ -135,7 +138,7 @@ public class AuthServiceImpl implements AuthService {
             // }
     
             // Recuperar el rol del repositorio
-            Role role = roleRepository.findById(2L)
+            Role role = referenceDataRegistry.findRole(2L)
             .orElseThrow(() -> new ServiceLogicException("Role not found"));
     
             User newUser = new User(
@@ -152,19 +155,9 @@ public class AuthServiceImpl implements AuthService {
             return UserMapper.toDTO(currentUser);
     }
     @Override
-    public User me() throws ServiceLogicException {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        
-        // Validar que el usuario esté autenticado
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new ServiceLogicException("No authenticated user");
-        }
-    
-        String username = authentication.getName();
-        Optional<User> user = userRepository.findByUsername(username);
-    
-        // Verificar si el usuario existe y retornar el DTO correspondiente
-        return user.orElseThrow(() -> new ServiceLogicException("User not found"));
+    public UserSnapshot me() throws ServiceLogicException {
+        // Se resuelve una sola vez por petición y se comparte con validadores y helpers
+        return currentUserContext.getUser();
     }
     @Transactional
     @Override
@@ -175,20 +168,13 @@ public class AuthServiceImpl implements AuthService {
         // Revocar el token
         revokeToken(token);
     
-        // Obtener el usuario autenticado y eliminar el refresh token asociado
-        User user = this.me();
-        Optional.ofNullable(user)
-                .ifPresentOrElse(
-                        u -> refreshTokenService.deleteRefreshToken(u.getId()),
-                        () -> { throw new IllegalStateException("User not found"); }
-                );
+        // Eliminar el refresh token del usuario autenticado; basta con su id
+        refreshTokenService.deleteRefreshToken(currentUserContext.getUserId());
     }
     
 
     private void revokeToken(String token) {
-        RevokedToken revokedToken = new RevokedToken();
-        revokedToken.setToken(token);
-        revokedToken.setRevokedAt(LocalDateTime.now());
-        revokedTokenRepository.save(revokedToken);
+        // Se guarda la expiración del JWT para poder purgar la entrada cuando ya no valide
+        revokedTokenService.revoke(token, jwtService.extractClaim(token, Claims::getExpiration));
     }
 }
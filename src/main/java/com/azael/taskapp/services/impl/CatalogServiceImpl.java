@@ -1,47 +1,134 @@
 package com.azael.taskapp.services.impl;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
 
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.azael.taskapp.exceptions.ServiceLogicException;
+import com.azael.taskapp.persistence.dto.response.ApiResponseDto;
+import com.azael.taskapp.persistence.dto.response.ApiResponseStatus;
+import com.azael.taskapp.persistence.dto.response.catalog.CatalogPayload;
 import com.azael.taskapp.persistence.entities.Role;
 import com.azael.taskapp.persistence.entities.Status;
-import com.azael.taskapp.persistence.repositories.RoleRepository;
-import com.azael.taskapp.persistence.repositories.StatusRepository;
 import com.azael.taskapp.services.CatalogService;
+import com.azael.taskapp.services.ReferenceDataRegistry;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Catálogos de estados y roles residentes en memoria.
+ *
+ * Son tablas pequeñas que casi nunca cambian: se toman del
+ * {@link ReferenceDataRegistry} en una instantánea inmutable junto con la
+ * respuesta ya serializada y su ETag, y se recargan periódicamente o a petición
+ * de un administrador. Servir un catálogo no consulta la base de datos ni
+ * serializa nada.
+ */
 @Component
 @Slf4j
 public class CatalogServiceImpl implements CatalogService {
+    private static final String STATUS_MESSAGE = "Status data successfully obtained";
+    private static final String ROLES_MESSAGE = "Role data successfully obtained";
 
-    @Autowired
-    private StatusRepository statusRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final ObjectMapper objectMapper;
+    private volatile Snapshot snapshot;
 
-    @Autowired
-    private RoleRepository roleRepository;
+    public CatalogServiceImpl(ReferenceDataRegistry referenceDataRegistry, ObjectMapper objectMapper) {
+        this.referenceDataRegistry = referenceDataRegistry;
+        this.objectMapper = objectMapper;
+    }
+
+    // El registro ya se cargó al crearse; aquí solo se serializa
+    @PostConstruct
+    public void load() {
+        rebuild();
+    }
 
     @Override
     public List<Status> getAllStatus() throws ServiceLogicException {
+        return snapshot.statuses();
+    }
+
+    @Override
+    public List<Role> getAllRoles() throws ServiceLogicException {
+        return snapshot.roles();
+    }
+
+    @Override
+    public CatalogPayload getStatusPayload() {
+        return snapshot.statusPayload();
+    }
+
+    @Override
+    public CatalogPayload getRolesPayload() {
+        return snapshot.rolesPayload();
+    }
+
+    /**
+     * Vuelve a leer los catálogos de la base de datos, recargando también el
+     * registro que usan las escrituras. Si el contenido no cambió se conserva la
+     * instantánea actual, y con ella los ETag que ya tienen los clientes.
+     *
+     * Si la recarga falla se sigue sirviendo la instantánea anterior y se lanza
+     * la excepción: quien llama decide si informarla (el endpoint de
+     * administración) o solo registrarla (la recarga periódica).
+     */
+    @Override
+    public synchronized void refresh() throws ServiceLogicException {
         try {
-            return statusRepository.findAll();
+            referenceDataRegistry.reload();
         } catch (Exception e) {
-            log.error("Error fetching status: " + e.getMessage(), e);
-            throw new ServiceLogicException("Unexpected error occurred while fetching users");
+            log.error("Error loading catalogs: " + e.getMessage(), e);
+            throw new ServiceLogicException("Catalogs could not be reloaded; the previous ones are still served");
         }
+        rebuild();
     }
 
-    @Override
-    public List<Role> getAllRoles() throws ServiceLogicException {
+    private synchronized void rebuild() throws ServiceLogicException {
         try {
-            return roleRepository.findAll();
+            List<Status> statuses = referenceDataRegistry.getStatuses();
+            List<Role> roles = referenceDataRegistry.getRoles();
+            Snapshot current = snapshot;
+            CatalogPayload statusPayload = serialize(STATUS_MESSAGE, statuses);
+            CatalogPayload rolesPayload = serialize(ROLES_MESSAGE, roles);
+            if (current != null && current.statusPayload().etag().equals(statusPayload.etag())
+                    && current.rolesPayload().etag().equals(rolesPayload.etag())) {
+                return;
+            }
+            snapshot = new Snapshot(statuses, roles, statusPayload, rolesPayload);
+            log.info("Catalogs loaded: {} statuses, {} roles", statuses.size(), roles.size());
         } catch (Exception e) {
-            log.error("Error fetching roles: " + e.getMessage(), e);
-            throw new ServiceLogicException("Unexpected error occurred while fetching users");
+            log.error("Error serializing catalogs: " + e.getMessage(), e);
+            // La instantánea previa, si la hay, no se reemplaza
+            throw new ServiceLogicException("Unexpected error occurred while loading catalogs");
+        }
+    }
+
+    // Misma respuesta que ApiResponseHelper.createResponse, serializada una sola vez
+    private CatalogPayload serialize(String message, List<?> results) throws JsonProcessingException {
+        byte[] body = objectMapper.writeValueAsBytes(
+                new ApiResponseDto<>(ApiResponseStatus.SUCCESS.name(), message, results));
+        return new CatalogPayload(body, etag(body));
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(Arrays.copyOf(digest, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
     }
 
+    private record Snapshot(List<Status> statuses, List<Role> roles, CatalogPayload statusPayload,
+            CatalogPayload rolesPayload) {
+    }
 }
@@ -0,0 +1,65 @@
+package com.azael.taskapp.services.impl;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import com.azael.taskapp.config.RateLimitProperties;
+import com.azael.taskapp.helper.RateLimitPolicy;
+import com.azael.taskapp.persistence.entities.RateLimitBucket;
+import com.azael.taskapp.persistence.repositories.RateLimitBucketRepository;
+import com.azael.taskapp.services.RateLimitStore;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Cuotas compartidas en la tabla rate_limit_bucket. Cada reserva bloquea solo
+ * la fila de su clave, y como los nodos piden lotes de permisos la base de
+ * datos recibe una fracción de las peticiones.
+ */
+@Component
+// Solo hace falta con el backend compartido; en modo local no se crea
+@ConditionalOnExpression("'${api.security.rate-limit.backend:local}' == 'shared' and '${api.security.rate-limit.store:database}' == 'database'")
+public class DatabaseRateLimitStoreImpl implements RateLimitStore {
+    private final RateLimitBucketRepository rateLimitBucketRepository;
+    private final RateLimitProperties properties;
+
+    public DatabaseRateLimitStoreImpl(RateLimitBucketRepository rateLimitBucketRepository,
+            RateLimitProperties properties) {
+        this.rateLimitBucketRepository = rateLimitBucketRepository;
+        this.properties = properties;
+    }
+
+    @Override
+    @Transactional
+    public int acquire(String key, RateLimitPolicy policy, int permits) {
+        // Reloj de pared: el TAT lo comparten varias JVM
+        long now = System.currentTimeMillis() * 1_000_000L;
+        rateLimitBucketRepository.insertIfAbsent(key, now);
+        RateLimitBucket bucket = rateLimitBucketRepository.findForUpdate(key)
+                .orElseThrow(() -> new IllegalStateException("Rate limit bucket not found: " + key));
+        int granted = policy.grantable(bucket.getTat(), now, permits);
+        if (granted > 0) {
+            bucket.setTat(Math.max(bucket.getTat(), now) + granted * policy.emissionInterval());
+        }
+        return granted;
+    }
+
+    @Override
+    public void release(String key, RateLimitPolicy policy, int permits) {
+        long now = System.currentTimeMillis() * 1_000_000L;
+        rateLimitBucketRepository.refund(key, permits * policy.emissionInterval(), now);
+    }
+
+    @Override
+    public int purgeIdle() {
+        long now = System.currentTimeMillis() * 1_000_000L;
+        int batchSize = properties.getPurgeBatchSize();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = rateLimitBucketRepository.deleteIdleBatch(now, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+        return total;
+    }
+}
@@ -0,0 +1,198 @@
+package com.azael.taskapp.services.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import com.azael.taskapp.config.RateLimitProperties;
+import com.azael.taskapp.helper.RateLimitPolicy;
+import com.azael.taskapp.services.RateLimitService;
+import com.azael.taskapp.services.RateLimitStore;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Limitador con cuotas compartidas entre todas las instancias.
+ *
+ * Cada nodo reserva del almacén lotes pequeños de permisos por clave y los
+ * consume en memoria, así que la mayoría de las peticiones no salen de la JVM.
+ * Las reservas caducan pronto para no acaparar la cuota, y los permisos que
+ * quedaron sin usar se devuelven al almacén en vez de perderse. Si el almacén
+ * no responde, se limita solo en local durante un tiempo.
+ *
+ * Las claves sin reserva pasan primero por el count-min sketch del limitador
+ * local: mientras su tráfico en este nodo no supere un lote de reserva se
+ * admiten sin tocar el almacén, así un barrido desde muchas IPs no se convierte
+ * en escrituras ni en filas nuevas. Cada nodo puede admitir así hasta un lote
+ * por clave y minuto fuera de la cuota compartida, el mismo margen que ya
+ * tolera una reserva. Si la tabla de reservas está llena, la decisión se toma
+ * con la estimación del sketch, igual que en el modo local.
+ */
+@Component
+@Primary
+@ConditionalOnProperty(name = "api.security.rate-limit.backend", havingValue = "shared")
+@Slf4j
+public class DistributedRateLimiterServiceImpl implements RateLimitService {
+
+    private final RateLimitStore rateLimitStore;
+    private final RateLimiterServiceImpl localLimiter;
+    private final RateLimitProperties properties;
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private volatile long storeDownUntil = System.nanoTime();
+
+    private final Counter storeRequests;
+    private final Counter fallbacks;
+    private final Counter overflow;
+
+    public DistributedRateLimiterServiceImpl(RateLimitStore rateLimitStore, RateLimiterServiceImpl localLimiter,
+            RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.rateLimitStore = rateLimitStore;
+        this.localLimiter = localLimiter;
+        this.properties = properties;
+        this.storeRequests = Counter.builder("taskapp.rate_limit.store_requests")
+                .description("Permit batches requested from the shared rate limit store")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder("taskapp.rate_limit.fallbacks")
+                .description("Decisions taken by the local limiter because the shared store failed")
+                .register(meterRegistry);
+        this.overflow = Counter.builder("taskapp.rate_limit.overflow")
+                .description("Decisions taken from the sketch because the exact table was full")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public long tryAcquire(String key, RateLimitPolicy policy) {
+        long now = System.nanoTime();
+        if (storeDownUntil - now > 0) {
+            fallbacks.increment();
+            return localLimiter.tryAcquire(key, policy);
+        }
+        Lease lease = leases.get(key);
+        if (lease == null) {
+            long estimate = localLimiter.recordRequest(key);
+            if (estimate <= batchSize(policy)) {
+                return 0;
+            }
+            if (leases.size() >= properties.getMaxKeys()) {
+                overflow.increment();
+                return estimate <= policy.limit() ? 0 : policy.emissionInterval();
+            }
+            lease = leases.computeIfAbsent(key, k -> new Lease());
+        }
+        if (lease.tryConsume(now)) {
+            return 0;
+        }
+        synchronized (lease) {
+            // Otro hilo pudo haber renovado la reserva mientras esperábamos
+            now = System.nanoTime();
+            if (lease.tryConsume(now)) {
+                return 0;
+            }
+            if (lease.deniedUntil - now > 0) {
+                return lease.deniedUntil - now;
+            }
+            release(key, lease);
+            int granted = acquireFromStore(key, policy, batchSize(policy), now);
+            if (granted < 0) {
+                return fallback(key, policy);
+            }
+            if (granted == 0) {
+                // No se vuelve a preguntar hasta que el bucket compartido recupere un permiso
+                lease.deniedUntil = now + policy.emissionInterval();
+                return policy.emissionInterval();
+            }
+            lease.policy = policy;
+            lease.remaining.set(granted - 1);
+            lease.expiresAt = now + TimeUnit.MILLISECONDS.toNanos(properties.getLeaseTtl());
+            return 0;
+        }
+    }
+
+    @Override
+    public void evictIdle() {
+        localLimiter.evictIdle();
+        long now = System.nanoTime();
+        leases.entrySet().removeIf(entry -> {
+            Lease lease = entry.getValue();
+            if (lease.expiresAt - now > 0 || lease.deniedUntil - now > 0) {
+                return false;
+            }
+            synchronized (lease) {
+                release(entry.getKey(), lease);
+            }
+            return true;
+        });
+        if (storeDownUntil - now > 0) {
+            return;
+        }
+        try {
+            rateLimitStore.purgeIdle();
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Could not purge idle rate limit buckets: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return Permisos concedidos, o -1 si el almacén falló.
+     */
+    private int acquireFromStore(String key, RateLimitPolicy policy, int permits, long now) {
+        try {
+            storeRequests.increment();
+            return rateLimitStore.acquire(key, policy, permits);
+        } catch (DataAccessException | TransactionException e) {
+            if (storeDownUntil - now <= 0) {
+                log.warn("Shared rate limit store unavailable, limiting locally for {} ms: {}",
+                        properties.getFallbackRetry(), e.getMessage());
+            }
+            storeDownUntil = now + TimeUnit.MILLISECONDS.toNanos(properties.getFallbackRetry());
+            return -1;
+        }
+    }
+
+    /**
+     * Devuelve al almacén los permisos de una reserva caducada que nadie usó.
+     * Se llama con el monitor de la reserva tomado.
+     */
+    private void release(String key, Lease lease) {
+        // remaining puede quedar negativo por los intentos de consumo fallidos
+        int unused = Math.max(0, lease.remaining.getAndSet(0));
+        if (unused == 0 || lease.policy == null || storeDownUntil - System.nanoTime() > 0) {
+            return;
+        }
+        try {
+            rateLimitStore.release(key, lease.policy, unused);
+        } catch (DataAccessException | TransactionException e) {
+            log.debug("Could not release {} unused rate limit permits for {}: {}", unused, key, e.getMessage());
+        }
+    }
+
+    private long fallback(String key, RateLimitPolicy policy) {
+        fallbacks.increment();
+        return localLimiter.tryAcquire(key, policy);
+    }
+
+    // Lotes pequeños para límites bajos, así ningún nodo acapara la ráfaga
+    private int batchSize(RateLimitPolicy policy) {
+        return (int) Math.max(1, Math.min(properties.getBatchSize(), policy.burst() / 4));
+    }
+
+    private static final class Lease {
+        private final AtomicInteger remaining = new AtomicInteger();
+        private volatile long expiresAt = System.nanoTime();
+        private volatile long deniedUntil = System.nanoTime();
+        private volatile RateLimitPolicy policy;
+
+        private boolean tryConsume(long now) {
+            return expiresAt - now > 0 && remaining.getAndDecrement() > 0;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.azael.taskapp.services.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import com.azael.taskapp.helper.RateLimitPolicy;
+import com.azael.taskapp.services.RateLimitStore;
+
+/**
+ * Sustituto en memoria del almacén compartido, con la misma semántica que la
+ * tabla rate_limit_bucket. Sirve para desarrollo y pruebas con un solo nodo.
+ */
+@Component
+// Solo hace falta con el backend compartido; en modo local no se crea
+@ConditionalOnExpression("'${api.security.rate-limit.backend:local}' == 'shared' and '${api.security.rate-limit.store:database}' == 'memory'")
+public class InMemoryRateLimitStoreImpl implements RateLimitStore {
+    private final Map<String, Long> buckets = new ConcurrentHashMap<>();
+
+    @Override
+    public int acquire(String key, RateLimitPolicy policy, int permits) {
+        long now = System.currentTimeMillis() * 1_000_000L;
+        int[] granted = new int[1];
+        // compute es atómico por clave, igual que el bloqueo de fila en la base de datos
+        buckets.compute(key, (k, tat) -> {
+            long current = tat == null ? now : tat;
+            granted[0] = policy.grantable(current, now, permits);
+            return Math.max(current, now) + granted[0] * policy.emissionInterval();
+        });
+        return granted[0];
+    }
+
+    @Override
+    public void release(String key, RateLimitPolicy policy, int permits) {
+        long now = System.currentTimeMillis() * 1_000_000L;
+        buckets.computeIfPresent(key, (k, tat) -> Math.max(now, tat - permits * policy.emissionInterval()));
+    }
+
+    @Override
+    public int purgeIdle() {
+        long now = System.currentTimeMillis() * 1_000_000L;
+        int before = buckets.size();
+        buckets.values().removeIf(tat -> tat < now);
+        return before - buckets.size();
+    }
+}
@@ -1,10 +1,12 @@
 package com.azael.taskapp.services.impl;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 
 import java.security.Key;
@@ -18,10 +20,11 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 // import org.springframework.security.core.userdetails.UserDetails;
 
-import com.azael.taskapp.persistence.repositories.RevokedTokenRepository;
 import com.azael.taskapp.services.JwtService;
+import com.azael.taskapp.services.RevokedTokenService;
 
-// import com.azael.taskapp.persistence.entities.User;
+import com.azael.taskapp.persistence.entities.User;
+import com.azael.taskapp.security.JwtPrincipal;
 
 @Component
 @Slf4j
@@ -32,10 +35,34 @@ public class JwtServiceImpl implements JwtService {
     @Value("${api.security.token.expiration}")
     private Long JWT_EXPIRATION;
 
-    private final RevokedTokenRepository revokedTokenRepository;
+    private final RevokedTokenService revokedTokenService;
+
+    // La clave y el parser son inmutables y thread-safe: se construyen una sola vez
+    private Key signInKey;
+    private JwtParser jwtParser;
     
-    public JwtServiceImpl(RevokedTokenRepository revokedTokenRepository) {
-        this.revokedTokenRepository = revokedTokenRepository;
+    public JwtServiceImpl(RevokedTokenService revokedTokenService) {
+        this.revokedTokenService = revokedTokenService;
+    }
+
+    @PostConstruct
+    public void init() {
+        this.signInKey = getSignInKey();
+        this.jwtParser = Jwts
+                .parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
+    }
+
+    /**
+     * Verifica la firma y la expiración del token y devuelve sus claims.
+     * Es el único punto donde se decodifica el JWT durante una petición.
+     *
+     * @param token El JWT recibido.
+     * @return Los claims ya validados.
+     */
+    public Claims parseToken(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     public String extractUsername(String token) {
@@ -71,15 +98,24 @@ public class JwtServiceImpl implements JwtService {
             UserDetails userDetails,
             long expiration
     ) {
+        // Datos del usuario para que el filtro pueda construir el principal sin consultar la BD
+        Map<String, Object> claims = new HashMap<>(extraClaims);
+        if (userDetails instanceof User user) {
+            claims.put(JwtPrincipal.CLAIM_USER_ID, user.getId());
+            claims.put(JwtPrincipal.CLAIM_ROLE_ID, user.getRole().getId());
+            claims.put(JwtPrincipal.CLAIM_ROLE, user.getRole().getName());
+            claims.put(JwtPrincipal.CLAIM_ACTIVE, user.isActive());
+            claims.put(JwtPrincipal.CLAIM_TOKEN_VERSION, user.getTokenVersion());
+        }
         // Calcular la fecha de expiración
         Date expirationDate = new Date(System.currentTimeMillis() + expiration);
         String token = Jwts
                 .builder()
-                .setClaims(extraClaims)
+                .setClaims(claims)
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(expirationDate)
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact();
                 SimpleDateFormat formatter = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
                 String formattedDate = formatter.format(expirationDate);
@@ -93,31 +129,29 @@ public class JwtServiceImpl implements JwtService {
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
+        return isTokenValid(token, parseToken(token), userDetails);
+    }
+
+    /**
+     * Valida un token cuyos claims ya se obtuvieron con {@link #parseToken(String)},
+     * sin volver a verificar la firma.
+     */
+    public boolean isTokenValid(String token, Claims claims, UserDetails userDetails) {
         // final String username = extractUsername(token);
         // return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
 
-        final String username = extractUsername(token);
-        if (revokedTokenRepository.existsByToken(token)) {
+        if (revokedTokenService.isRevoked(token)) {
             return false; // Token está en la blacklist
         }
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return claims.getSubject().equals(userDetails.getUsername()) && !isTokenExpired(claims);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parseToken(token);
     }
 
     // private Key getSignInKey() {
@@ -1,28 +1,189 @@
 package com.azael.taskapp.services.impl;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.azael.taskapp.config.RateLimitProperties;
+import com.azael.taskapp.helper.CountMinSketch;
+import com.azael.taskapp.helper.RateLimitPolicy;
 import com.azael.taskapp.services.RateLimitService;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Limitador de peticiones sin bloqueos basado en GCRA y con memoria acotada.
+ *
+ * Cada clave activa guarda un único long atómico con el "tiempo teórico de
+ * llegada" (TAT) de la siguiente petición. Los permisos se recargan de forma
+ * perezosa al comparar el TAT con el reloj, así que no hace falta ningún
+ * reinicio global.
+ *
+ * Las claves nuevas solo se cuentan en un count-min sketch de tamaño fijo que
+ * rota cada minuto. Una clave pasa a la tabla exacta cuando su estimación
+ * alcanza la mitad de su ráfaga; por debajo de eso no puede exceder su límite.
+ * La tabla tiene una capacidad máxima: si está llena, la decisión se toma con
+ * la estimación del sketch, que nunca subestima.
+ */
 @Component
 public class RateLimiterServiceImpl implements RateLimitService {
-    private final Map<String, Integer> requestCounts = new ConcurrentHashMap<>();
-    @Value("${api.security.max-requests-per-minute}")
-    private int MAX_REQUESTS_PER_MINUTE;
-
-    public boolean isAllowed(String ip) {
-        int count = requestCounts.getOrDefault(ip, 0);
-        if (count >= MAX_REQUESTS_PER_MINUTE) {
-            return false;
+    private static final long WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+    // Coste aproximado de una entrada de la tabla (nodo, clave y AtomicLong)
+    private static final long ESTIMATED_ENTRY_BYTES = 160;
+
+    private final RateLimitProperties properties;
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicInteger keyCount = new AtomicInteger();
+    private final Object rotationLock = new Object();
+    private volatile CountMinSketch currentWindow;
+    private volatile CountMinSketch previousWindow;
+    private volatile long windowStart = System.nanoTime();
+
+    private final Counter promoted;
+    private final Counter overflow;
+
+    public RateLimiterServiceImpl(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.currentWindow = newSketch();
+        this.previousWindow = newSketch();
+        this.promoted = Counter.builder("taskapp.rate_limit.promoted")
+                .description("Keys promoted from the sketch to the exact table")
+                .register(meterRegistry);
+        this.overflow = Counter.builder("taskapp.rate_limit.overflow")
+                .description("Decisions taken from the sketch because the exact table was full")
+                .register(meterRegistry);
+        Gauge.builder("taskapp.rate_limit.keys", keyCount, AtomicInteger::get)
+                .description("Keys tracked in the exact rate limit table")
+                .register(meterRegistry);
+        Gauge.builder("taskapp.rate_limit.memory", this, RateLimiterServiceImpl::estimatedMemory)
+                .description("Estimated memory used by the rate limiter state")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public long tryAcquire(String key, RateLimitPolicy policy) {
+        long now = System.nanoTime();
+        AtomicLong tat = buckets.get(key);
+        if (tat == null) {
+            long estimate = recordInSketch(key, now);
+            if (estimate * 2 < policy.burst()) {
+                return 0;
+            }
+            tat = promote(key, policy, now, estimate);
+            if (tat == null) {
+                overflow.increment();
+                return estimate <= policy.limit() ? 0 : policy.emissionInterval();
+            }
+        }
+        return acquire(tat, policy, now);
+    }
+
+    /**
+     * Cuenta una petición en el sketch sin crear estado exacto para la clave.
+     *
+     * @return Peticiones estimadas de la clave en el último minuto, incluida esta.
+     */
+    public long recordRequest(String key) {
+        return recordInSketch(key, System.nanoTime());
+    }
+
+    /**
+     * Elimina las claves cuyo bucket ya se recargó por completo: equivalen a una
+     * clave nueva, así que descartarlas no cambia ninguna decisión.
+     */
+    @Override
+    public void evictIdle() {
+        long now = System.nanoTime();
+        buckets.forEach((key, tat) -> {
+            if (tat.get() <= now && buckets.remove(key, tat)) {
+                keyCount.decrementAndGet();
+            }
+        });
+    }
+
+    private long acquire(AtomicLong tat, RateLimitPolicy policy, long now) {
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, now) + policy.emissionInterval();
+            long excess = next - now - policy.capacity();
+            if (excess > 0) {
+                return excess;
+            }
+            if (tat.compareAndSet(current, next)) {
+                return 0;
+            }
         }
-        requestCounts.put(ip, count + 1);
-        return true;
     }
 
-    public void reset() {
-        requestCounts.clear();
+    /**
+     * Crea la entrada exacta descontando los permisos que el sketch estima ya
+     * consumidos. Devuelve null si la tabla llegó a su capacidad máxima.
+     */
+    private AtomicLong promote(String key, RateLimitPolicy policy, long now, long estimate) {
+        if (keyCount.incrementAndGet() > properties.getMaxKeys()) {
+            keyCount.decrementAndGet();
+            return null;
+        }
+        // Se vuelve a leer el sketch: con peticiones concurrentes dos hilos pueden
+        // obtener la misma estimación al incrementar, pero la lectura posterior ya
+        // cuenta todas las que se admitieron sin estado exacto
+        long consumed = Math.min(Math.max(estimate, estimateInSketch(key, now)) - 1, policy.burst());
+        AtomicLong tat = new AtomicLong(now + consumed * policy.emissionInterval());
+        AtomicLong existing = buckets.putIfAbsent(key, tat);
+        if (existing != null) {
+            keyCount.decrementAndGet();
+            return existing;
+        }
+        promoted.increment();
+        return tat;
+    }
+
+    /**
+     * Registra la petición en la ventana actual y devuelve la estimación de
+     * peticiones del último minuto (ventana deslizante aproximada).
+     */
+    private long recordInSketch(String key, long now) {
+        long elapsed = now - windowStart;
+        if (elapsed >= WINDOW_NANOS) {
+            rotate(now);
+            elapsed = now - windowStart;
+        }
+        long current = currentWindow.add(key);
+        double previousWeight = 1.0 - (double) Math.max(0, elapsed) / WINDOW_NANOS;
+        return current + (long) Math.ceil(previousWindow.estimate(key) * previousWeight);
+    }
+
+    // Misma estimación que recordInSketch, sin registrar la petición
+    private long estimateInSketch(String key, long now) {
+        double previousWeight = 1.0 - (double) Math.max(0, now - windowStart) / WINDOW_NANOS;
+        return currentWindow.estimate(key)
+                + (long) Math.ceil(previousWindow.estimate(key) * Math.max(0, previousWeight));
+    }
+
+    private void rotate(long now) {
+        synchronized (rotationLock) {
+            long elapsed = now - windowStart;
+            if (elapsed < WINDOW_NANOS) {
+                return;
+            }
+            // Si pasó más de una ventana sin tráfico, la anterior ya no cuenta
+            previousWindow = elapsed < 2 * WINDOW_NANOS ? currentWindow : newSketch();
+            currentWindow = newSketch();
+            windowStart = now;
+        }
+    }
+
+    private CountMinSketch newSketch() {
+        return new CountMinSketch(properties.getSketchWidth(), properties.getSketchDepth());
+    }
+
+    private double estimatedMemory() {
+        return 2 * currentWindow.getSizeInBytes() + keyCount.get() * ESTIMATED_ENTRY_BYTES;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,85 @@
+package com.azael.taskapp.services.impl;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.azael.taskapp.persistence.entities.Role;
+import com.azael.taskapp.persistence.entities.Status;
+import com.azael.taskapp.persistence.repositories.RoleRepository;
+import com.azael.taskapp.persistence.repositories.StatusRepository;
+import com.azael.taskapp.services.ReferenceDataRegistry;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Estados y roles en memoria, indexados por id.
+ *
+ * Las escrituras de tareas y usuarios, los validadores y los catálogos toman de
+ * aquí las referencias en lugar de consultar la base de datos. Las entidades
+ * están desacopladas de cualquier sesión; como las relaciones hacia Status y
+ * Role no tienen cascada, asignarlas a una tarea o usuario solo escribe la
+ * clave foránea. Se recargan con {@link #reload()} (al refrescar los catálogos).
+ */
+@Component
+@Slf4j
+public class ReferenceDataRegistryImpl implements ReferenceDataRegistry {
+    private final StatusRepository statusRepository;
+    private final RoleRepository roleRepository;
+    private volatile Snapshot snapshot;
+
+    public ReferenceDataRegistryImpl(StatusRepository statusRepository, RoleRepository roleRepository) {
+        this.statusRepository = statusRepository;
+        this.roleRepository = roleRepository;
+    }
+
+    @PostConstruct
+    @Override
+    public void reload() {
+        Map<Long, Status> statuses = statusRepository.findAll().stream()
+                .collect(Collectors.toUnmodifiableMap(Status::getId, Function.identity()));
+        Map<Long, Role> roles = roleRepository.findAll().stream()
+                .collect(Collectors.toUnmodifiableMap(Role::getId, Function.identity()));
+        snapshot = new Snapshot(statuses, roles);
+        log.debug("Reference data loaded: {} statuses, {} roles", statuses.size(), roles.size());
+    }
+
+    @Override
+    public Optional<Status> findStatus(Long id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(snapshot.statuses().get(id));
+    }
+
+    @Override
+    public Optional<Role> findRole(Long id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(snapshot.roles().get(id));
+    }
+
+    @Override
+    public boolean statusExists(Long id) {
+        return id != null && snapshot.statuses().containsKey(id);
+    }
+
+    @Override
+    public boolean roleExists(Long id) {
+        return id != null && snapshot.roles().containsKey(id);
+    }
+
+    @Override
+    public List<Status> getStatuses() {
+        return snapshot.statuses().values().stream().sorted(Comparator.comparing(Status::getId)).toList();
+    }
+
+    @Override
+    public List<Role> getRoles() {
+        return snapshot.roles().values().stream().sorted(Comparator.comparing(Role::getId)).toList();
+    }
+
+    private record Snapshot(Map<Long, Status> statuses, Map<Long, Role> roles) {
+    }
+}
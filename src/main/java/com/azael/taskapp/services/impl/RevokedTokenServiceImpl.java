@@ -0,0 +1,214 @@
+package com.azael.taskapp.services.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.azael.taskapp.helper.BloomFilter;
+import com.azael.taskapp.persistence.entities.RevokedToken;
+import com.azael.taskapp.persistence.repositories.RevokedTokenRepository;
+import com.azael.taskapp.services.RevokedTokenService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Lista de tokens revocados residente en memoria.
+ *
+ * Un filtro de Bloom responde sin tocar la base de datos el caso común (token no
+ * revocado); solo cuando el filtro da positivo se consulta el conjunto exacto de
+ * digests para descartar falsos positivos. Ambos se cargan al arrancar desde la
+ * tabla revoked_token y se sincronizan periódicamente para recoger las
+ * revocaciones hechas por otras instancias.
+ *
+ * Con varias instancias, un token revocado en otra sigue validando aquí hasta
+ * la siguiente sincronización: la ventana es como mucho
+ * {@code api.security.revoked-token.sync-interval} (2 s por defecto). La
+ * instancia que atiende el logout lo rechaza de inmediato.
+ */
+@Component
+@Slf4j
+public class RevokedTokenServiceImpl implements RevokedTokenService {
+    // Margen para no perder revocaciones que se confirmaron durante la sincronización anterior
+    private static final long SYNC_OVERLAP_SECONDS = 5;
+
+    @Value("${api.security.revoked-token.expected-insertions}")
+    private int EXPECTED_INSERTIONS;
+
+    @Value("${api.security.revoked-token.false-positive-rate}")
+    private double FALSE_POSITIVE_RATE;
+
+    @Value("${api.security.revoked-token.purge-batch-size}")
+    private int PURGE_BATCH_SIZE;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    // digest hexadecimal -> expiración del token revocado
+    private final Map<String, LocalDateTime> revokedDigests = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private volatile BloomFilter bloomFilter;
+    private volatile LocalDateTime lastSync;
+
+    private final Counter lookups;
+    private final Counter bloomPositives;
+    private final Counter falsePositives;
+    private final Counter purged;
+
+    public RevokedTokenServiceImpl(RevokedTokenRepository revokedTokenRepository, MeterRegistry meterRegistry) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.lookups = Counter.builder("taskapp.revoked_tokens.lookups")
+                .description("Token revocation checks")
+                .register(meterRegistry);
+        this.bloomPositives = Counter.builder("taskapp.revoked_tokens.bloom_positives")
+                .description("Checks where the Bloom filter answered 'might be revoked'")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("taskapp.revoked_tokens.false_positives")
+                .description("Bloom filter positives not confirmed by the exact set")
+                .register(meterRegistry);
+        this.purged = Counter.builder("taskapp.revoked_tokens.purged")
+                .description("Expired revoked tokens deleted from the database")
+                .register(meterRegistry);
+        Gauge.builder("taskapp.revoked_tokens.size", revokedDigests, Map::size)
+                .description("Revoked tokens held in memory")
+                .register(meterRegistry);
+        Gauge.builder("taskapp.revoked_tokens.false_positive_rate", this, RevokedTokenServiceImpl::observedFalsePositiveRate)
+                .description("Observed Bloom filter false positive rate")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void load() {
+        LocalDateTime syncStart = LocalDateTime.now();
+        // Solo interesan los tokens que todavía podrían validar
+        List<RevokedToken> revokedTokens = revokedTokenRepository.findByExpiresAtAfter(syncStart);
+        synchronized (writeLock) {
+            revokedTokens.forEach(revokedToken -> revokedDigests.put(revokedToken.getTokenHash(), revokedToken.getExpiresAt()));
+            rebuildFilter(Math.max(EXPECTED_INSERTIONS, revokedDigests.size() * 2));
+        }
+        lastSync = syncStart;
+        log.info("Loaded {} revoked tokens into memory", revokedDigests.size());
+    }
+
+    @Override
+    public void revoke(String token, Date expiresAt) {
+        LocalDateTime expiration = LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault());
+        if (expiration.isBefore(LocalDateTime.now())) {
+            return; // El token ya no valida, no hace falta registrarlo
+        }
+        byte[] digest = digest(token);
+        RevokedToken revokedToken = new RevokedToken();
+        revokedToken.setTokenHash(HexFormat.of().formatHex(digest));
+        revokedToken.setRevokedAt(LocalDateTime.now());
+        revokedToken.setExpiresAt(expiration);
+        revokedTokenRepository.save(revokedToken);
+        remember(digest, expiration);
+    }
+
+    @Override
+    public boolean isRevoked(String token) {
+        lookups.increment();
+        byte[] digest = digest(token);
+        if (!bloomFilter.mightContain(digest)) {
+            return false;
+        }
+        bloomPositives.increment();
+        if (revokedDigests.containsKey(HexFormat.of().formatHex(digest))) {
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    /**
+     * Incorpora las revocaciones registradas desde la última sincronización
+     * (incluidas las de otras instancias) y redimensiona el filtro si se llenó.
+     */
+    @Override
+    public void synchronize() {
+        LocalDateTime syncStart = LocalDateTime.now();
+        List<RevokedToken> revokedTokens = revokedTokenRepository
+                .findByRevokedAtAfter(lastSync.minusSeconds(SYNC_OVERLAP_SECONDS));
+        revokedTokens.forEach(revokedToken -> remember(
+                HexFormat.of().parseHex(revokedToken.getTokenHash()), revokedToken.getExpiresAt()));
+        lastSync = syncStart;
+
+        synchronized (writeLock) {
+            if (revokedDigests.size() > bloomFilter.getExpectedInsertions()) {
+                rebuildFilter(revokedDigests.size() * 2);
+                log.info("Revoked token filter resized for {} entries", revokedDigests.size());
+            }
+        }
+    }
+
+    /**
+     * Elimina por lotes los tokens revocados que ya expiraron, tanto de la base
+     * de datos como de memoria. Un token expirado es rechazado por la validación
+     * de la firma, así que su entrada en la lista ya no aporta nada.
+     *
+     * @return Número de filas eliminadas de la base de datos.
+     */
+    @Override
+    public int purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int deleted;
+        do {
+            deleted = revokedTokenRepository.deleteExpiredBatch(now, PURGE_BATCH_SIZE);
+            total += deleted;
+        } while (deleted == PURGE_BATCH_SIZE);
+        purged.increment(total);
+
+        synchronized (writeLock) {
+            int before = revokedDigests.size();
+            revokedDigests.values().removeIf(expiresAt -> expiresAt.isBefore(now));
+            if (revokedDigests.size() < before) {
+                // El filtro de Bloom no admite borrados: se reconstruye con lo que queda
+                rebuildFilter(Math.max(EXPECTED_INSERTIONS, revokedDigests.size() * 2));
+            }
+        }
+        if (total > 0) {
+            log.info("Purged {} expired revoked tokens", total);
+        }
+        return total;
+    }
+
+    private void remember(byte[] digest, LocalDateTime expiresAt) {
+        synchronized (writeLock) {
+            revokedDigests.put(HexFormat.of().formatHex(digest), expiresAt);
+            bloomFilter.put(digest);
+        }
+    }
+
+    // Debe llamarse con writeLock tomado para no perder inserciones concurrentes
+    private void rebuildFilter(int expectedInsertions) {
+        BloomFilter filter = new BloomFilter(expectedInsertions, FALSE_POSITIVE_RATE);
+        revokedDigests.keySet().forEach(hex -> filter.put(HexFormat.of().parseHex(hex)));
+        bloomFilter = filter;
+    }
+
+    // Falsos positivos sobre todas las consultas de tokens no revocados (FP / (FP + TN))
+    private double observedFalsePositiveRate() {
+        double notRevoked = lookups.count() - (bloomPositives.count() - falsePositives.count());
+        return notRevoked <= 0 ? 0 : falsePositives.count() / notRevoked;
+    }
+
+    private static byte[] digest(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.azael.taskapp.services.impl;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.azael.taskapp.persistence.repositories.TaskRepository;
+import com.azael.taskapp.services.TaskCountService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Totales de tareas (por usuario y global) servidos desde memoria.
+ *
+ * Cada total se carga con un COUNT la primera vez que se pide y después se
+ * ajusta con cada alta o baja confirmada en esta instancia. El TTL obliga a
+ * recargarlo periódicamente, lo que acota la desviación causada por cambios
+ * hechos en otras instancias.
+ */
+@Component
+public class TaskCountServiceImpl implements TaskCountService {
+
+    private final TaskRepository taskRepository;
+    private final Cache<Long, AtomicLong> userCounts;
+    private final long ttlNanos;
+    private volatile GlobalCount globalCount;
+
+    public TaskCountServiceImpl(TaskRepository taskRepository, MeterRegistry meterRegistry,
+            @Value("${api.tasks.count-cache.max-size}") long maxSize,
+            @Value("${api.tasks.count-cache.ttl}") long ttl) {
+        this.taskRepository = taskRepository;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttl);
+        this.userCounts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userCounts, "tasks.count_by_user");
+    }
+
+    @Override
+    public long countForUser(Long userId) {
+        return userCounts.get(userId, id -> new AtomicLong(taskRepository.countByUserId(id))).get();
+    }
+
+    @Override
+    public long countAll() {
+        GlobalCount current = globalCount;
+        if (current == null || System.nanoTime() - current.loadedAt() > ttlNanos) {
+            current = new GlobalCount(new AtomicLong(taskRepository.count()), System.nanoTime());
+            globalCount = current;
+        }
+        return current.value().get();
+    }
+
+    @Override
+    public void recordCreated(Long userId) {
+        afterCommit(userId, 1);
+    }
+
+    @Override
+    public void recordCreated(Long userId, int count) {
+        afterCommit(userId, count);
+    }
+
+    @Override
+    public void recordDeleted(Long userId) {
+        afterCommit(userId, -1);
+    }
+
+    // Solo se ajusta si la transacción se confirma; un rollback no debe mover los totales
+    private void afterCommit(Long userId, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(userId, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(userId, delta);
+            }
+        });
+    }
+
+    // Los totales que aún no se cargaron se leerán ya actualizados de la base de datos
+    private void apply(Long userId, long delta) {
+        AtomicLong userCount = userCounts.getIfPresent(userId);
+        if (userCount != null) {
+            userCount.addAndGet(delta);
+        }
+        GlobalCount current = globalCount;
+        if (current != null) {
+            current.value().addAndGet(delta);
+        }
+    }
+
+    private record GlobalCount(AtomicLong value, long loadedAt) {
+    }
+}
@@ -0,0 +1,191 @@
+package com.azael.taskapp.services.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.azael.taskapp.exceptions.RateLimitException;
+import com.azael.taskapp.exceptions.ServiceLogicException;
+import com.azael.taskapp.persistence.dto.request.task.TaskFileFormat;
+import com.azael.taskapp.persistence.projections.TaskSummary;
+import com.azael.taskapp.persistence.repositories.TaskRepository;
+import com.azael.taskapp.security.CurrentUserContext;
+import com.azael.taskapp.services.TaskExportService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Exportación de tareas en NDJSON o CSV con memoria constante.
+ *
+ * Las filas salen de un cursor de solo avance como proyecciones planas (no
+ * entidades, así que el contexto de persistencia no crece) y se escriben en la
+ * respuesta a medida que llegan. La escritura ocurre en un hilo asíncrono de
+ * Spring MVC, por eso el usuario se resuelve antes, en el hilo de la petición.
+ *
+ * Cada exportación retiene una conexión del pool hasta terminar, así que, igual
+ * que la importación, se limitan las simultáneas: el cupo se toma en el hilo de
+ * la petición (las que sobran reciben 429 antes de empezar) y se libera al
+ * terminar la escritura. Si la escritura nunca llega a empezar (el ejecutor la
+ * rechaza, vence el tiempo de espera o el cliente se desconecta mientras está en
+ * cola), lo libera el cierre de la petición asíncrona.
+ */
+@Component
+@Slf4j
+public class TaskExportServiceImpl implements TaskExportService {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER = "id,name,description,status,userId,username,createdAt,updatedAt\n";
+
+    @Value("${api.tasks.export.max-concurrent}")
+    private int MAX_CONCURRENT;
+
+    private final TaskRepository taskRepository;
+    private final CurrentUserContext currentUserContext;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectWriter jsonWriter;
+    private Semaphore permits;
+
+    public TaskExportServiceImpl(TaskRepository taskRepository, CurrentUserContext currentUserContext,
+            PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        this.taskRepository = taskRepository;
+        this.currentUserContext = currentUserContext;
+        // El cursor solo es válido mientras la transacción (y su conexión) siga abierta
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        // Sin flush por fila: el BufferedWriter decide cuándo escribir en la respuesta
+        this.jsonWriter = objectMapper.writerFor(TaskSummary.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @PostConstruct
+    public void start() {
+        permits = new Semaphore(MAX_CONCURRENT);
+    }
+
+    @Override
+    public StreamingResponseBody export(TaskFileFormat format) throws ServiceLogicException {
+        // El administrador exporta todas las tareas; el resto, solo las suyas
+        Long userId = currentUserContext.isAdmin() ? null : currentUserContext.getUserId();
+        if (!permits.tryAcquire()) {
+            throw new RateLimitException("Too many task exports in progress");
+        }
+        // Quien lo reclame primero decide: la escritura, que lo libera al terminar, o el cierre de la petición
+        AtomicBoolean claimed = new AtomicBoolean();
+        releaseOnCompletion(claimed);
+        return outputStream -> {
+            if (!claimed.compareAndSet(false, true)) {
+                return; // La petición ya terminó y el cupo se devolvió
+            }
+            try {
+                write(outputStream, userId, format);
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    private void releaseOnCompletion(AtomicBoolean claimed) {
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+        WebAsyncUtils.getAsyncManager(attributes.getRequest()).registerCallableInterceptor(
+                TaskExportServiceImpl.class.getName(), new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+                        if (claimed.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                });
+    }
+
+    private void write(OutputStream outputStream, Long userId, TaskFileFormat format) {
+        long start = System.nanoTime();
+        long rows = transactionTemplate.execute(status -> {
+            try (Stream<TaskSummary> tasks = userId == null
+                    ? taskRepository.streamSummaries()
+                    : taskRepository.streamSummariesByUserId(userId)) {
+                // La respuesta la cierra el contenedor; aquí solo se vacía el buffer
+                Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8),
+                        BUFFER_SIZE);
+                long written = format == TaskFileFormat.CSV ? writeCsv(tasks, writer) : writeNdjson(tasks, writer);
+                writer.flush();
+                return written;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        log.info("Exported {} tasks as {} in {} ms", rows, format.getParameter(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private long writeNdjson(Stream<TaskSummary> tasks, Writer writer) throws IOException {
+        JsonGenerator generator = jsonWriter.createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        long rows = 0;
+        for (Iterator<TaskSummary> iterator = tasks.iterator(); iterator.hasNext(); rows++) {
+            jsonWriter.writeValue(generator, iterator.next());
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+        return rows;
+    }
+
+    private long writeCsv(Stream<TaskSummary> tasks, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        long rows = 0;
+        for (Iterator<TaskSummary> iterator = tasks.iterator(); iterator.hasNext(); rows++) {
+            TaskSummary task = iterator.next();
+            writer.write(String.valueOf(task.id()));
+            writer.write(',');
+            writer.write(csv(task.name()));
+            writer.write(',');
+            writer.write(csv(task.description()));
+            writer.write(',');
+            writer.write(csv(task.statusName()));
+            writer.write(',');
+            writer.write(String.valueOf(task.userId()));
+            writer.write(',');
+            writer.write(csv(task.username()));
+            writer.write(',');
+            writer.write(String.valueOf(task.createdAt()));
+            writer.write(',');
+            writer.write(String.valueOf(task.updatedAt()));
+            writer.write('\n');
+        }
+        return rows;
+    }
+
+    // RFC 4180: entre comillas si contiene separadores, comillas o saltos de línea
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
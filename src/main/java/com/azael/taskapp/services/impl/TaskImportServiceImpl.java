@@ -0,0 +1,449 @@
+package com.azael.taskapp.services.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.azael.taskapp.exceptions.DataInvalidException;
+import com.azael.taskapp.exceptions.RateLimitException;
+import com.azael.taskapp.exceptions.ServiceLogicException;
+import com.azael.taskapp.helper.CsvRecordReader;
+import com.azael.taskapp.persistence.dto.request.task.BatchCreateTaskItemDto;
+import com.azael.taskapp.persistence.dto.request.task.TaskFileFormat;
+import com.azael.taskapp.persistence.dto.response.task.TaskImportErrorDto;
+import com.azael.taskapp.persistence.dto.response.task.TaskImportResultDto;
+import com.azael.taskapp.persistence.entities.Status;
+import com.azael.taskapp.persistence.entities.Task;
+import com.azael.taskapp.persistence.entities.User;
+import com.azael.taskapp.persistence.repositories.TaskRepository;
+import com.azael.taskapp.persistence.repositories.UserRepository;
+import com.azael.taskapp.security.CurrentUserContext;
+import com.azael.taskapp.services.ReferenceDataRegistry;
+import com.azael.taskapp.services.TaskCountService;
+import com.azael.taskapp.services.TaskImportService;
+import com.azael.taskapp.validation.task.TaskNameConstraint;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Importación masiva de tareas desde NDJSON o CSV para el usuario actual.
+ *
+ * El hilo de la petición lee el cuerpo fila a fila, valida cada una (campos y
+ * estado contra los estados cargados una vez por importación) y arma lotes de
+ * tamaño fijo. Un hilo escritor los toma de una cola acotada y guarda cada lote
+ * en su propia transacción, comprobando la unicidad de los nombres con una
+ * consulta por lote. Si el escritor se atrasa la cola se llena y la lectura del
+ * cuerpo se detiene, así que la memoria no depende del tamaño del archivo.
+ *
+ * Los lotes ya confirmados se conservan aunque una fila posterior falle; la
+ * respuesta indica cuántas filas se importaron y los errores por línea.
+ */
+@Component
+@Slf4j
+public class TaskImportServiceImpl implements TaskImportService {
+    // Marca de fin para el escritor
+    private static final List<ImportRow> END = List.of();
+    private static final int PROGRESS_LOG_INTERVAL = 10;
+    private static final List<String> CSV_COLUMNS = List.of("name", "description", "statusId");
+
+    @Value("${api.tasks.import.batch-size}")
+    private int BATCH_SIZE;
+
+    @Value("${api.tasks.import.queue-capacity}")
+    private int QUEUE_CAPACITY;
+
+    @Value("${api.tasks.import.max-concurrent}")
+    private int MAX_CONCURRENT;
+
+    @Value("${api.tasks.import.max-errors}")
+    private int MAX_ERRORS;
+
+    @Value("${api.tasks.import.max-record-length}")
+    private int MAX_RECORD_LENGTH;
+
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final CurrentUserContext currentUserContext;
+    private final TaskCountService taskCountService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private ThreadPoolExecutor writers;
+
+    public TaskImportServiceImpl(TaskRepository taskRepository, UserRepository userRepository,
+            ReferenceDataRegistry referenceDataRegistry,
+            CurrentUserContext currentUserContext, TaskCountService taskCountService,
+            PlatformTransactionManager transactionManager, ObjectMapper objectMapper, Validator validator) {
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.referenceDataRegistry = referenceDataRegistry;
+        this.currentUserContext = currentUserContext;
+        this.taskCountService = taskCountService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    @PostConstruct
+    public void start() {
+        // Un escritor por importación en curso; sin cola, las que sobran se rechazan
+        writers = new ThreadPoolExecutor(MAX_CONCURRENT, MAX_CONCURRENT, 0L, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(), new CustomizableThreadFactory("task-import-"));
+    }
+
+    @PreDestroy
+    public void stop() {
+        writers.shutdownNow();
+    }
+
+    @Override
+    public TaskImportResultDto importTasks(InputStream body, TaskFileFormat format)
+            throws ServiceLogicException, DataInvalidException {
+        // Solo el id: el escritor asigna el usuario como referencia dentro de cada transacción
+        Long userId = currentUserContext.getUserId();
+        // Misma instantánea del registro durante toda la importación
+        Map<Long, Status> statuses = referenceDataRegistry.getStatuses().stream()
+                .collect(Collectors.toMap(Status::getId, Function.identity()));
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        CsvRecordReader csv = null;
+        int[] columns = null;
+        if (format == TaskFileFormat.CSV) {
+            // El encabezado se valida antes de arrancar el escritor
+            csv = new CsvRecordReader(reader, MAX_RECORD_LENGTH);
+            columns = readHeader(csv);
+        }
+
+        ImportProgress progress = new ImportProgress(MAX_ERRORS);
+        BlockingQueue<List<ImportRow>> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        Future<?> writer;
+        try {
+            writer = writers.submit(() -> write(queue, userId, statuses, progress));
+        } catch (RejectedExecutionException e) {
+            throw new RateLimitException("Too many task imports in progress");
+        }
+
+        long start = System.nanoTime();
+        try {
+            RowCollector collector = new RowCollector(queue, writer, statuses, progress);
+            if (csv != null) {
+                readCsv(csv, columns, collector);
+            } else {
+                readNdjson(reader, collector);
+            }
+            collector.finish();
+            writer.get();
+        } catch (IOException e) {
+            writer.cancel(true);
+            throw new ServiceLogicException("Task import could not read the request body");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            writer.cancel(true);
+            throw new ServiceLogicException("Task import was interrupted");
+        } catch (ExecutionException e) {
+            log.error("Task import for user {} failed after {} imported rows", userId, progress.imported.get(),
+                    e.getCause());
+            throw new ServiceLogicException("Task import failed");
+        } catch (RuntimeException e) {
+            writer.cancel(true);
+            throw e;
+        }
+
+        log.info("Task import for user {} finished: {} rows, {} imported, {} failed in {} ms", userId,
+                progress.rows.get(), progress.imported.get(), progress.failed.get(),
+                (System.nanoTime() - start) / 1_000_000);
+        return progress.toResult();
+    }
+
+    private void readNdjson(BufferedReader reader, RowCollector collector) throws IOException, InterruptedException {
+        long line = 0;
+        StringBuilder text = new StringBuilder();
+        while (readLine(reader, text)) {
+            line++;
+            if (text.length() > MAX_RECORD_LENGTH) {
+                collector.accept(line, null, recordTooLong());
+                continue;
+            }
+            if (text.toString().isBlank()) {
+                continue;
+            }
+            try {
+                collector.accept(line, objectMapper.readValue(text.toString(), BatchCreateTaskItemDto.class), null);
+            } catch (JsonProcessingException e) {
+                collector.accept(line, null, Map.of("row", Map.of("message", "Malformed JSON row")));
+            }
+        }
+    }
+
+    /**
+     * Como BufferedReader.readLine, pero guarda como mucho MAX_RECORD_LENGTH + 1
+     * caracteres: el resto de una línea más larga se descarta y el llamador la
+     * reconoce por su largo.
+     *
+     * @return false al llegar al final.
+     */
+    private boolean readLine(BufferedReader reader, StringBuilder text) throws IOException {
+        text.setLength(0);
+        int c = reader.read();
+        if (c == -1) {
+            return false;
+        }
+        while (c != -1 && c != '\n') {
+            if (text.length() <= MAX_RECORD_LENGTH) {
+                text.append((char) c);
+            }
+            c = reader.read();
+        }
+        if (text.length() <= MAX_RECORD_LENGTH && !text.isEmpty() && text.charAt(text.length() - 1) == '\r') {
+            text.setLength(text.length() - 1);
+        }
+        return true;
+    }
+
+    private Map<String, Map<String, String>> recordTooLong() {
+        return Map.of("row", Map.of("message", "Row exceeds " + MAX_RECORD_LENGTH + " characters"));
+    }
+
+    private void readCsv(CsvRecordReader csv, int[] columns, RowCollector collector)
+            throws IOException, InterruptedException {
+        List<String> fields;
+        while ((fields = csv.next()) != null) {
+            if (csv.isTooLong()) {
+                collector.accept(csv.getRecordLine(), null, recordTooLong());
+                continue;
+            }
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            if (fields.size() < CSV_COLUMNS.size()) {
+                collector.accept(csv.getRecordLine(), null, Map.of("row", Map.of("message", "Missing columns")));
+                continue;
+            }
+            Long statusId;
+            try {
+                statusId = Long.valueOf(fields.get(columns[2]).trim());
+            } catch (NumberFormatException e) {
+                collector.accept(csv.getRecordLine(), null,
+                        Map.of("statusId", Map.of("message", "Status must be a number")));
+                continue;
+            }
+            collector.accept(csv.getRecordLine(),
+                    new BatchCreateTaskItemDto(fields.get(columns[0]), fields.get(columns[1]), statusId), null);
+        }
+    }
+
+    // Posición de cada columna requerida en el encabezado
+    private static int[] readHeader(CsvRecordReader csv) throws DataInvalidException {
+        List<String> header;
+        try {
+            header = csv.next();
+        } catch (IOException e) {
+            throw new ServiceLogicException("Task import could not read the request body");
+        }
+        int[] columns = new int[CSV_COLUMNS.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = header == null ? -1 : header.stream().map(String::trim).toList().indexOf(CSV_COLUMNS.get(i));
+            if (columns[i] < 0) {
+                Map<String, String> headerError = new HashMap<>();
+                headerError.put("message", "CSV header must contain the columns name, description and statusId");
+                Map<String, Map<String, String>> errors = new HashMap<>();
+                errors.put("header", headerError);
+                throw new DataInvalidException("Validation failed", errors);
+            }
+        }
+        return columns;
+    }
+
+    // Hilo escritor: un lote por transacción hasta recibir la marca de fin
+    private Void write(BlockingQueue<List<ImportRow>> queue, Long userId, Map<Long, Status> statuses,
+            ImportProgress progress) throws InterruptedException {
+        List<ImportRow> batch;
+        while ((batch = queue.take()) != END) {
+            writeBatch(batch, userId, statuses, progress);
+            long batches = progress.batches.incrementAndGet();
+            if (batches % PROGRESS_LOG_INTERVAL == 0) {
+                log.info("Task import for user {}: {} rows read, {} imported, {} failed", userId,
+                        progress.rows.get(), progress.imported.get(), progress.failed.get());
+            }
+        }
+        return null;
+    }
+
+    private void writeBatch(List<ImportRow> batch, Long userId, Map<Long, Status> statuses, ImportProgress progress) {
+        // Los lotes anteriores ya están confirmados, así que esta consulta también ve sus nombres
+        Set<String> names = batch.stream().map(row -> row.item().name()).collect(Collectors.toSet());
+        Set<String> takenNames = taskRepository.findNamesByUserIdInAndNameIn(Set.of(userId), names).stream()
+                .map(taskName -> TaskNameConstraint.key(taskName.name()))
+                .collect(Collectors.toCollection(HashSet::new));
+
+        List<ImportRow> accepted = new ArrayList<>(batch.size());
+        for (ImportRow row : batch) {
+            if (!takenNames.add(TaskNameConstraint.key(row.item().name()))) {
+                progress.reject(row.line(), TaskNameConstraint.errors());
+                continue;
+            }
+            accepted.add(row);
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                // Referencia por id: el INSERT solo necesita la clave foránea
+                User owner = userRepository.getReferenceById(userId);
+                List<Task> tasks = new ArrayList<>(accepted.size());
+                for (ImportRow row : accepted) {
+                    BatchCreateTaskItemDto item = row.item();
+                    tasks.add(new Task(item.name(), item.description(), statuses.get(item.statusId()), owner));
+                }
+                taskRepository.saveAll(tasks);
+                taskRepository.flush();
+                taskCountService.recordCreated(userId, tasks.size());
+            });
+            progress.imported.addAndGet(accepted.size());
+        } catch (DataIntegrityViolationException e) {
+            // Otra petición guardó uno de los nombres mientras tanto: el lote completo se revierte
+            Map<String, Map<String, String>> errors = TaskNameConstraint.isViolatedBy(e)
+                    ? TaskNameConstraint.errors()
+                    : Map.of("row", Map.of("message", "Task could not be saved"));
+            accepted.forEach(row -> progress.reject(row.line(), errors));
+        }
+    }
+
+    private record ImportRow(long line, BatchCreateTaskItemDto item) {
+    }
+
+    /**
+     * Valida las filas en el hilo de la petición y entrega lotes completos a la
+     * cola. Cuando la cola está llena espera, lo que frena la lectura del cuerpo.
+     */
+    private class RowCollector {
+        private final BlockingQueue<List<ImportRow>> queue;
+        private final Future<?> writer;
+        private final Map<Long, Status> statuses;
+        private final ImportProgress progress;
+        private List<ImportRow> batch = new ArrayList<>(BATCH_SIZE);
+
+        RowCollector(BlockingQueue<List<ImportRow>> queue, Future<?> writer, Map<Long, Status> statuses,
+                ImportProgress progress) {
+            this.queue = queue;
+            this.writer = writer;
+            this.statuses = statuses;
+            this.progress = progress;
+        }
+
+        void accept(long line, BatchCreateTaskItemDto item, Map<String, Map<String, String>> parseErrors)
+                throws InterruptedException {
+            progress.rows.incrementAndGet();
+            Map<String, Map<String, String>> errors = parseErrors != null ? parseErrors : validate(item);
+            if (!errors.isEmpty()) {
+                progress.reject(line, errors);
+                return;
+            }
+            batch.add(new ImportRow(line, item));
+            if (batch.size() >= BATCH_SIZE) {
+                enqueue(batch);
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+
+        void finish() throws InterruptedException {
+            if (!batch.isEmpty()) {
+                enqueue(batch);
+            }
+            enqueue(END);
+        }
+
+        private Map<String, Map<String, String>> validate(BatchCreateTaskItemDto item) {
+            Map<String, Map<String, String>> errors = new HashMap<>();
+            validator.validate(item).forEach(violation -> errors.put(violation.getPropertyPath().toString(),
+                    Map.of("message", violation.getMessage())));
+            if (item.statusId() != null && !statuses.containsKey(item.statusId())) {
+                errors.put("statusId", Map.of("message", "Status not found with id " + item.statusId()));
+            }
+            return errors;
+        }
+
+        private void enqueue(List<ImportRow> rows) throws InterruptedException {
+            while (!queue.offer(rows, 1, TimeUnit.SECONDS)) {
+                // El escritor solo termina antes de la marca de fin si falló
+                if (writer.isDone()) {
+                    try {
+                        writer.get();
+                    } catch (ExecutionException e) {
+                        log.error("Task import writer failed", e.getCause());
+                    }
+                    throw new ServiceLogicException("Task import failed");
+                }
+            }
+        }
+    }
+
+    /**
+     * Contadores compartidos entre el hilo de la petición y el escritor.
+     */
+    private static class ImportProgress {
+        private final AtomicLong rows = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong batches = new AtomicLong();
+        private final int maxErrors;
+        private final List<TaskImportErrorDto> errors = new ArrayList<>();
+        private boolean errorsTruncated;
+
+        ImportProgress(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        synchronized void reject(long line, Map<String, Map<String, String>> rowErrors) {
+            failed.incrementAndGet();
+            if (errors.size() < maxErrors) {
+                errors.add(new TaskImportErrorDto(line, rowErrors));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+
+        synchronized TaskImportResultDto toResult() {
+            // Los errores llegan de los dos hilos; se entregan en el orden del archivo
+            List<TaskImportErrorDto> sorted = new ArrayList<>(errors);
+            sorted.sort(Comparator.comparingLong(TaskImportErrorDto::getLine));
+            return new TaskImportResultDto(rows.get(), imported.get(), failed.get(), batches.get(), sorted,
+                    errorsTruncated);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.azael.taskapp.services.impl;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.azael.taskapp.persistence.projections.TaskSummary;
+import com.azael.taskapp.persistence.repositories.TaskRepository;
+import com.azael.taskapp.services.TaskSearchService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Búsqueda de tareas por texto sobre un índice FULLTEXT con parser ngram en
+ * tasks(name, description).
+ *
+ * El índice es un índice invertido de n-gramas mantenido por InnoDB al
+ * confirmar cada alta, edición o baja, así que todas las instancias ven siempre
+ * el mismo contenido. La frase buscada se compara como secuencia de n-gramas
+ * (equivale a buscar una subcadena) y los resultados se ordenan por relevancia.
+ * Los términos más cortos que un n-grama siguen usando LIKE.
+ *
+ * El índice se crea sin stopwords: con el parser ngram InnoDB descarta todo
+ * n-grama que contenga una stopword, y con la lista por defecto ("a", "i",
+ * "the"...) muchas búsquedas no encontrarían nada. Un índice creado antes de
+ * este cambio se corrige con la reconstrucción; mientras tanto las frases
+ * formadas solo por stopwords usan LIKE. La búsqueda LIKE compara las mismas
+ * columnas que el índice, así que el término no cambia qué filas coinciden.
+ *
+ * En una tabla existente el índice lo crea la migración V3__TaskFullTextIndex.
+ * Al arrancar solo se crea si la tabla está vacía (base de datos nueva), donde
+ * la sentencia es inmediata.
+ */
+@Component
+@Slf4j
+public class TaskSearchServiceImpl implements TaskSearchService {
+    private static final String INDEX_NAME = "ft_tasks_name_description";
+    // ER_FT_MATCHING_KEY_NOT_FOUND: el índice no existe (por ejemplo, otra instancia lo está reconstruyendo)
+    private static final int MISSING_FULLTEXT_INDEX = 1191;
+    // Lista por defecto de InnoDB (INFORMATION_SCHEMA.INNODB_FT_DEFAULT_STOPWORD)
+    private static final Set<String> DEFAULT_STOPWORDS = Set.of("a", "about", "an", "are", "as", "at", "be", "by",
+            "com", "de", "en", "for", "from", "how", "i", "in", "is", "it", "la", "of", "on", "or", "that", "the",
+            "this", "to", "was", "what", "when", "where", "who", "will", "with", "und", "www");
+
+    @Value("${api.tasks.search.min-term-length}")
+    private int MIN_TERM_LENGTH;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskRepository taskRepository;
+    private volatile boolean available;
+
+    public TaskSearchServiceImpl(JdbcTemplate jdbcTemplate, TaskRepository taskRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.taskRepository = taskRepository;
+    }
+
+    /**
+     * Comprueba si el índice existe. En una base de datos nueva ddl-auto acaba de
+     * crear la tabla vacía y el índice se crea aquí; con filas no se crea nunca al
+     * arrancar, porque bloquearía las escrituras en cada instancia.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkIndex() {
+        try {
+            if (!indexExists() && isTableEmpty()) {
+                log.info("Creating full-text index {} on the empty tasks table", INDEX_NAME);
+                createIndex(false);
+            }
+            available = indexExists();
+            if (!available) {
+                log.warn("Full-text index {} missing, searching with LIKE until it is rebuilt", INDEX_NAME);
+            }
+        } catch (DataAccessException e) {
+            available = false;
+            log.warn("Full-text task search unavailable, falling back to LIKE: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean supports(String term) {
+        String cleaned = clean(term);
+        return available && cleaned.length() >= MIN_TERM_LENGTH && !onlyStopwords(cleaned);
+    }
+
+    /**
+     * Busca las tareas que contienen el término en el nombre o la descripción,
+     * ordenadas por relevancia. Primero se obtiene la página de ids desde el
+     * índice y después sus filas con una sola consulta.
+     *
+     * Si el índice no existe en este momento (otra instancia lo está
+     * reconstruyendo) se responde con la búsqueda LIKE.
+     *
+     * @param userId Usuario dueño de las tareas, o null para buscar en todas.
+     */
+    @Override
+    public Slice<TaskSummary> search(String term, Long userId, Pageable pageable, boolean count) {
+        try {
+            return fullTextSearch(toPhrase(term), userId, pageable, count);
+        } catch (DataAccessException e) {
+            if (!(e.getMostSpecificCause() instanceof SQLException sqlException)
+                    || sqlException.getErrorCode() != MISSING_FULLTEXT_INDEX) {
+                throw e;
+            }
+            log.warn("Full-text index {} missing, searching with LIKE", INDEX_NAME);
+            return likeSearch(term, userId, pageable, count);
+        }
+    }
+
+    private Slice<TaskSummary> fullTextSearch(String phrase, Long userId, Pageable pageable, boolean count) {
+        // Se pide una fila de más para saber si hay página siguiente sin contar
+        int limit = pageable.getPageSize() + 1;
+        long offset = pageable.getOffset();
+        List<Long> ids = userId == null
+                ? taskRepository.searchIds(phrase, limit, offset)
+                : taskRepository.searchIdsByUserId(phrase, userId, limit, offset);
+        boolean hasNext = ids.size() > pageable.getPageSize();
+        if (hasNext) {
+            ids = ids.subList(0, pageable.getPageSize());
+        }
+
+        List<TaskSummary> content = ids.isEmpty() ? List.of() : inOrder(ids, taskRepository.findSummariesByIdIn(ids));
+        if (!count) {
+            return new SliceImpl<>(content, pageable, hasNext);
+        }
+        long total = userId == null
+                ? taskRepository.countSearch(phrase)
+                : taskRepository.countSearchByUserId(phrase, userId);
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    // Mismo filtro (nombre o descripción) que usa el listado cuando el término no admite el índice
+    private Slice<TaskSummary> likeSearch(String term, Long userId, Pageable pageable, boolean count) {
+        if (count) {
+            return userId == null
+                    ? taskRepository.findSummariesByName(term, pageable)
+                    : taskRepository.findSummariesByNameAndUserId(term, userId, pageable);
+        }
+        return userId == null
+                ? taskRepository.findSummarySliceByName(term, pageable)
+                : taskRepository.findSummarySliceByNameAndUserId(term, userId, pageable);
+    }
+
+    /**
+     * Reconstruye el índice desde cero (por ejemplo tras cambiar ngram_token_size
+     * o para quitar las stopwords de un índice antiguo).
+     *
+     * El borrado y la creación van en un solo ALTER TABLE con LOCK=SHARED: no hay
+     * un momento sin índice, las lecturas siguen funcionando y las escrituras en
+     * tasks esperan hasta que termine. En una tabla grande conviene lanzarlo en
+     * una ventana de poca escritura; las demás instancias no hacen nada.
+     */
+    @Override
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        log.info("Rebuilding full-text index {}; writes to tasks wait until it finishes", INDEX_NAME);
+        try {
+            createIndex(indexExists());
+            log.info("Full-text index {} rebuilt in {} ms", INDEX_NAME, System.currentTimeMillis() - start);
+        } finally {
+            // Si la creación falló, las búsquedas siguen con LIKE en lugar de quedar apagadas a ciegas
+            available = indexExistsQuietly();
+        }
+    }
+
+    private boolean indexExists() {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics "
+                        + "WHERE table_schema = DATABASE() AND table_name = 'tasks' AND index_name = ?",
+                Integer.class, INDEX_NAME);
+        return existing != null && existing > 0;
+    }
+
+    private boolean isTableEmpty() {
+        return jdbcTemplate.queryForList("SELECT 1 FROM tasks LIMIT 1").isEmpty();
+    }
+
+    private boolean indexExistsQuietly() {
+        try {
+            return indexExists();
+        } catch (DataAccessException e) {
+            log.warn("Could not check full-text index {}: {}", INDEX_NAME, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Crea el índice con las stopwords desactivadas. La variable es de sesión y se
+     * lee al crear el índice, así que ambas sentencias van en la misma conexión,
+     * que se devuelve al pool con el valor por defecto.
+     *
+     * @param replace Si el índice existente se borra en la misma sentencia.
+     */
+    private void createIndex(boolean replace) {
+        String drop = replace ? "DROP INDEX " + INDEX_NAME + ", " : "";
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET SESSION innodb_ft_enable_stopword = 0");
+                try {
+                    statement.execute("ALTER TABLE tasks " + drop + "ADD FULLTEXT INDEX " + INDEX_NAME
+                            + " (name, description) WITH PARSER ngram, ALGORITHM=INPLACE, LOCK=SHARED");
+                } finally {
+                    statement.execute("SET SESSION innodb_ft_enable_stopword = DEFAULT");
+                }
+            }
+            return null;
+        });
+    }
+
+    // Se quitan los caracteres con significado especial en modo booleano
+    private static String clean(String term) {
+        return term.replaceAll("[\"+\\-><()~*@]", " ").trim().replaceAll("\\s+", " ");
+    }
+
+    // Frase exacta en modo booleano
+    private static String toPhrase(String term) {
+        return "\"" + clean(term) + "\"";
+    }
+
+    private static boolean onlyStopwords(String cleaned) {
+        return Arrays.stream(cleaned.toLowerCase(Locale.ROOT).split(" ")).allMatch(DEFAULT_STOPWORDS::contains);
+    }
+
+    private static List<TaskSummary> inOrder(List<Long> ids, List<TaskSummary> rows) {
+        Map<Long, TaskSummary> byId = rows.stream().collect(Collectors.toMap(TaskSummary::id, Function.identity()));
+        return ids.stream().map(byId::get).filter(row -> row != null).toList();
+    }
+}
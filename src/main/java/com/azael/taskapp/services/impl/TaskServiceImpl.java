@@ -1,56 +1,104 @@
 package com.azael.taskapp.services.impl;
 
-import org.springframework.data.domain.Page;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.azael.taskapp.exceptions.DataInvalidException;
 import com.azael.taskapp.exceptions.NotFoundException;
 import com.azael.taskapp.exceptions.ServiceLogicException;
+import com.azael.taskapp.helper.CursorHelper;
+import com.azael.taskapp.persistence.dto.request.task.BatchCreateTaskItemDto;
+import com.azael.taskapp.persistence.dto.request.task.BatchStatusChangeItemDto;
+import com.azael.taskapp.persistence.dto.request.task.BatchUpdateTaskItemDto;
 import com.azael.taskapp.persistence.dto.request.task.CreateTaskRequestDto;
+import com.azael.taskapp.persistence.dto.request.task.PatchTaskRequestDto;
+import com.azael.taskapp.persistence.dto.request.task.TaskSortField;
 import com.azael.taskapp.persistence.dto.request.task.UpdateTaskRequestDto;
+import com.azael.taskapp.persistence.dto.response.task.BatchTaskResponseDto;
+import com.azael.taskapp.persistence.dto.response.task.BatchTaskResultDto;
 import com.azael.taskapp.persistence.dto.response.task.TaskResponseDto;
+import com.azael.taskapp.persistence.dto.response.user.UserResponseDto;
 import com.azael.taskapp.persistence.entities.Status;
 import com.azael.taskapp.persistence.entities.Task;
 import com.azael.taskapp.persistence.entities.User;
 import com.azael.taskapp.persistence.mappers.TaskMapper;
-import com.azael.taskapp.persistence.repositories.StatusRepository;
+import com.azael.taskapp.persistence.mappers.UserMapper;
+import com.azael.taskapp.persistence.projections.TaskName;
+import com.azael.taskapp.persistence.projections.TaskSummary;
 import com.azael.taskapp.persistence.repositories.TaskRepository;
+import com.azael.taskapp.persistence.repositories.UserRepository;
+import com.azael.taskapp.security.CurrentUserContext;
+import com.azael.taskapp.services.ReferenceDataRegistry;
+import com.azael.taskapp.services.TaskCountService;
+import com.azael.taskapp.services.TaskSearchService;
 import com.azael.taskapp.services.TaskService;
 import com.azael.taskapp.validation.status.StatusValidator;
-import com.azael.taskapp.validation.task.edit.UpdateTaskValidator;
+import com.azael.taskapp.validation.task.TaskNameConstraint;
 
 import jakarta.transaction.Transactional;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
 
 @Component
 @Slf4j
 public class TaskServiceImpl implements TaskService {
+    private static final int MAX_SCROLL_SIZE = 100;
+    private static final String CREATED = "CREATED";
+    private static final String UPDATED = "UPDATED";
+    private static final String FAILED = "FAILED";
 
     private final TaskRepository taskRepository;
-    private final StatusRepository statusRepository;
-    private final AuthServiceImpl authServiceImpl;
-    private final UpdateTaskValidator taskValidator;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final UserRepository userRepository;
     private final StatusValidator statusValidator;
+    private final CurrentUserContext currentUserContext;
+    private final TaskCountService taskCountService;
+    private final TaskSearchService taskSearchService;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
 
-
-    public TaskServiceImpl(TaskRepository taskRepository, StatusRepository statusRepository,
-            AuthServiceImpl authServiceImpl, UpdateTaskValidator taskValidator, StatusValidator statusValidator) {
+    public TaskServiceImpl(TaskRepository taskRepository, ReferenceDataRegistry referenceDataRegistry,
+            UserRepository userRepository, StatusValidator statusValidator,
+            CurrentUserContext currentUserContext, TaskCountService taskCountService,
+            TaskSearchService taskSearchService, PlatformTransactionManager transactionManager, Validator validator) {
         this.taskRepository = taskRepository;
-        this.statusRepository = statusRepository;
-        this.authServiceImpl = authServiceImpl;
-        this.taskValidator = taskValidator;
+        this.referenceDataRegistry = referenceDataRegistry;
+        this.userRepository = userRepository;
         this.statusValidator = statusValidator;
+        this.currentUserContext = currentUserContext;
+        this.taskCountService = taskCountService;
+        this.taskSearchService = taskSearchService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
     }
 
 
     @Transactional
     @Override
     public TaskResponseDto create(CreateTaskRequestDto newTaskDetails) throws ServiceLogicException, DataInvalidException {
-            // Validar si el status existe
-            Status status = statusRepository.findById(newTaskDetails.statusId()).orElseThrow(() -> new NotFoundException("Status not found with id " + newTaskDetails.statusId()));
+            // Validar si el status existe (en memoria, sin consultar la BD)
+            Status status = referenceDataRegistry.findStatus(newTaskDetails.statusId()).orElseThrow(() -> new NotFoundException("Status not found with id " + newTaskDetails.statusId()));
                     // .orElseThrow(() -> {
                     //     Map<String, String> statusError = new HashMap<>();
                     //     statusError.put("message", "Status does not exist with id " + newTaskDetails.statusId());
@@ -70,10 +118,8 @@ public class TaskServiceImpl implements TaskService {
                         // return new DataInvalidException("Validation failed", errors);
                     // );
 
-            User currentUser = authServiceImpl.me();
-            if(currentUser == null) {
-                throw new NotFoundException("User not found");
-            }
+            // El id sale del token; el usuario se asigna como referencia sin cargarlo
+            Long userId = currentUserContext.getUserId();
     
             // Verificar que el nombre de la tarea sea único para ese usuario
             // if (taskRepository.existsByUserIdAndName(currentUser.getId(), newTaskDetails.name())) {
@@ -88,13 +134,14 @@ public class TaskServiceImpl implements TaskService {
             newTask.setName(newTaskDetails.name());
             newTask.setDescription(newTaskDetails.description());
             newTask.setStatus(status);
-            newTask.setUser(currentUser);
+            newTask.setUser(userRepository.getReferenceById(userId));
             // newTask.setCreatedAt(LocalDateTime.now());
             // newTask.setUpdatedAt(LocalDateTime.now());
     
-            // Guardar la tarea en la base de datos
-            Task task = taskRepository.save(newTask);
-            return TaskMapper.toDTO(task);
+            // Guardar la tarea en la base de datos; la restricción única valida el nombre
+            Task task = saveUnique(newTask);
+            taskCountService.recordCreated(userId);
+            return toResponse(task);
 
     }
     
@@ -103,12 +150,12 @@ public class TaskServiceImpl implements TaskService {
     @Override
     public TaskResponseDto update(UpdateTaskRequestDto newTaskDetails, Long id) throws NotFoundException, ServiceLogicException, DataInvalidException {
      
-            // Buscar la tarea actual
-            Task task = taskRepository.findById(id)
-                    .orElseThrow(() -> new NotFoundException("Task not found with id " + id));
+            // Solo las tareas del usuario; la de otro responde 404 como show()
+            Task task = taskRepository.findByIdAndUserId(id, currentUserContext.getUserId())
+                    .orElseThrow(() -> new NotFoundException("Task not found for this user"));
     
-            // Validar si el status existe
-            Status status = statusRepository.findById(newTaskDetails.statusId())
+            // Validar si el status existe (en memoria, sin consultar la BD)
+            Status status = referenceDataRegistry.findStatus(newTaskDetails.statusId())
                     .orElseThrow(() -> new NotFoundException("Status not found with id " + newTaskDetails.statusId())
                         // Map<String, String> statusError = new HashMap<>();
                         // statusError.put("message", "Status does not exist with id " + newTaskDetails.statusId());
@@ -126,11 +173,6 @@ public class TaskServiceImpl implements TaskService {
             //             errors.put("user", userError);
             //             return new DataInvalidException("Validation failed", errors);
             //         });
-            User currentUser = authServiceImpl.me();
-            if(currentUser == null) {
-                throw new NotFoundException("User not found");
-            }
-    
             //Verificar que el nombre de la tarea sea único para ese usuario (excepto la tarea que estamos actualizando)
             // if (!task.getName().equals(newTaskDetails.name()) && 
             //     taskRepository.existsByUserIdAndNameAndIdNot(currentUser.getId(), newTaskDetails.name(), id)) {
@@ -155,72 +197,182 @@ public class TaskServiceImpl implements TaskService {
             //     errors.put("name", taskNameError);
             //     throw new DataInvalidException("Validation failed", errors);
             // }
-            // Validar que el nombre sea único para el usuario actual
-            taskValidator.validateUniqueTaskName(currentUser.getId(), newTaskDetails.name(), id);
             // Actualizar la tarea con los nuevos detalles
             task.setName(newTaskDetails.name());
             task.setDescription(newTaskDetails.description());
             task.setStatus(status);
-            task.setUser(currentUser);
+            // El dueño no cambia: no se vuelve a asignar el usuario
             // task.setUpdatedAt(LocalDateTime.now());
     
-            // Guardar la tarea actualizada
-            return TaskMapper.toDTO(task);
+            // Guardar la tarea actualizada; la restricción única valida el nombre
+            return toResponse(saveUnique(task));
     }
     
 
+    /**
+     * Aplica un cambio parcial: solo se validan y escriben los campos enviados
+     * que difieren del valor actual. Si nada cambia no se emite ningún UPDATE;
+     * la unicidad del nombre solo se comprueba (por la restricción única) cuando
+     * el nombre cambia.
+     *
+     * Solo se modifican tareas del usuario actual: la de otro responde 404, igual
+     * que {@link #show(Long)}, {@link #update} y {@link #delete(Long)}.
+     */
+    @Transactional
+    @Override
+    public TaskResponseDto patch(PatchTaskRequestDto changes, Long id) throws NotFoundException, ServiceLogicException, DataInvalidException {
+        Task task = taskRepository.findByIdAndUserId(id, currentUserContext.getUserId())
+                .orElseThrow(() -> new NotFoundException("Task not found for this user"));
+
+        boolean changed = false;
+        if (changes.name() != null && !changes.name().equals(task.getName())) {
+            task.setName(changes.name());
+            changed = true;
+        }
+        if (changes.description() != null && !changes.description().equals(task.getDescription())) {
+            task.setDescription(changes.description());
+            changed = true;
+        }
+        // getId() sobre el proxy del estado no lo inicializa
+        Long currentStatusId = task.getStatus().getId();
+        Long statusId = changes.statusId() != null ? changes.statusId() : currentStatusId;
+        Status status = referenceDataRegistry.findStatus(statusId)
+                .orElseThrow(() -> new NotFoundException("Status not found with id " + statusId));
+        if (!statusId.equals(currentStatusId)) {
+            changed = true;
+        }
+        // Con la misma clave no queda sucio; así la respuesta no inicializa el proxy
+        task.setStatus(status);
+
+        if (!changed) {
+            return toResponse(task);
+        }
+        return toResponse(saveUnique(task));
+    }
+
+    /**
+     * Lista las tareas del usuario (o todas si es administrador).
+     *
+     * Con {@code count} se hace el COUNT exacto de siempre. Sin él, el listado sin
+     * filtro usa los totales en memoria y el filtrado por nombre devuelve un Slice,
+     * que solo sabe si hay página siguiente. El filtro por nombre busca en el
+     * nombre y la descripción y ordena por relevancia.
+     */
     @Override
-    public Page<Task> getAll(int page, int size, Sort sort, String name) throws ServiceLogicException {
+    public Slice<TaskSummary> getAll(int page, int size, Sort sort, String name, boolean count) throws ServiceLogicException {
         // Crear el objeto Pageable
         Pageable pageable = PageRequest.of(page, size, sort);
     
-        // Obtener el usuario actual
-        User currentUser = authServiceImpl.me();
-        // UserMapper.toEntity(currentUser);
-        Long userId = currentUser.getId();
+        // Obtener el usuario actual (sin consultar la BD si el filtro ya lo resolvió)
+        Long userId = currentUserContext.getUserId();
     
         // Determinar si el usuario es administrador
-        boolean isAdmin = currentUser.getRole().getId() == 1;
+        boolean isAdmin = currentUserContext.isAdmin();
     
         // Validar si el nombre está vacío o nulo
         boolean isNameEmpty = name == null || name.trim().isEmpty();
     
-        // Construir la consulta según las condiciones
-        if (isAdmin) {
+        // El filtro por nombre usa el índice de texto completo, ordenado por relevancia
+        if (!isNameEmpty && taskSearchService.supports(name)) {
+            return taskSearchService.search(name, isAdmin ? null : userId, pageable, count);
+        }
+
+        // Construir la consulta según las condiciones; cada una es un único SELECT con JOIN
+        if (count) {
+            if (isAdmin) {
+                return isNameEmpty 
+                        ? taskRepository.findSummaries(pageable) 
+                        : taskRepository.findSummariesByName(name, pageable);
+            }
             return isNameEmpty 
-                    ? taskRepository.findAll(pageable) 
-                    : taskRepository.findByNameLike(name, pageable);
+                    ? taskRepository.findSummariesByUserId(userId, pageable) 
+                    : taskRepository.findSummariesByNameAndUserId(name, userId, pageable);
+        }
+
+        if (isNameEmpty) {
+            // El total sale de memoria, así que se puede seguir devolviendo una página completa
+            Slice<TaskSummary> slice = isAdmin
+                    ? taskRepository.findSummarySlice(pageable)
+                    : taskRepository.findSummarySliceByUserId(userId, pageable);
+            long total = isAdmin ? taskCountService.countAll() : taskCountService.countForUser(userId);
+            // Si el total en memoria quedó atrás, lo que devolvió la consulta manda
+            total = Math.max(total, pageable.getOffset() + slice.getNumberOfElements() + (slice.hasNext() ? 1 : 0));
+            return new PageImpl<>(slice.getContent(), pageable, total);
+        }
+        return isAdmin
+                ? taskRepository.findSummarySliceByName(name, pageable)
+                : taskRepository.findSummarySliceByNameAndUserId(name, userId, pageable);
+    }
+
+    @Override
+    public Window<Task> scroll(String cursor, int size, Sort.Direction direction, TaskSortField sortField, String name)
+            throws ServiceLogicException, DataInvalidException {
+        // Solo se admiten campos con cursor definido
+        if (!sortField.supportsCursor()) {
+            Map<String, String> sortError = new HashMap<>();
+            sortError.put("message", "Sort field does not support cursor pagination");
+            Map<String, Map<String, String>> errors = new HashMap<>();
+            errors.put("sortBy", sortError);
+            throw new DataInvalidException("Validation failed", errors);
+        }
+        ScrollPosition position = CursorHelper.decode(cursor, sortField);
+
+        // El id desempata filas con el mismo valor en el campo de ordenamiento
+        Sort sort = sortField.toSort(direction);
+        Limit limit = Limit.of(Math.max(1, Math.min(size, MAX_SCROLL_SIZE)));
+
+        Long userId = currentUserContext.getUserId();
+        boolean isAdmin = currentUserContext.isAdmin();
+        boolean isNameEmpty = name == null || name.trim().isEmpty();
+
+        // createdAt admite nulos en filas antiguas; un cursor no puede apuntar a ellas
+        if (sortField == TaskSortField.CREATED_AT) {
+            if (isAdmin) {
+                return isNameEmpty
+                        ? taskRepository.findWindowByCreatedAtNotNull(position, sort, limit)
+                        : taskRepository.findWindowByNameContainingIgnoreCaseAndCreatedAtNotNull(name, position, sort, limit);
+            }
+            return isNameEmpty
+                    ? taskRepository.findWindowByUserIdAndCreatedAtNotNull(userId, position, sort, limit)
+                    : taskRepository.findWindowByNameContainingIgnoreCaseAndUserIdAndCreatedAtNotNull(name, userId,
+                            position, sort, limit);
+        }
+
+        if (isAdmin) {
+            return isNameEmpty
+                    ? taskRepository.findWindowBy(position, sort, limit)
+                    : taskRepository.findWindowByNameContainingIgnoreCase(name, position, sort, limit);
         } else {
-            return isNameEmpty 
-                    ? taskRepository.findByUserId(pageable, userId) 
-                    : taskRepository.findByNameLikeAndUserId(name, pageable, userId);
+            return isNameEmpty
+                    ? taskRepository.findWindowByUserId(userId, position, sort, limit)
+                    : taskRepository.findWindowByNameContainingIgnoreCaseAndUserId(name, userId, position, sort, limit);
         }
     }
 
     @Transactional
     @Override
     public void delete(Long id) throws NotFoundException, ServiceLogicException {
-            // Verificar si la tarea existe
-            Task task = taskRepository.findById(id)
-                    .orElseThrow(() -> new NotFoundException("Task not found with id " + id));
+            // Verificar que la tarea exista y sea del usuario
+            Task task = taskRepository.findByIdAndUserId(id, currentUserContext.getUserId())
+                    .orElseThrow(() -> new NotFoundException("Task not found for this user"));
 
             // Eliminar la tarea
             taskRepository.delete(task);
+            taskCountService.recordDeleted(task.getUser().getId());
     }
 
     @Override
     public TaskResponseDto show(Long id) throws NotFoundException, ServiceLogicException {
-        // Obtener el usuario actual
-        User currentUser = authServiceImpl.me();
-        Long userId = currentUser.getId();
+        // Obtener el usuario actual (sin consultar la BD si el filtro ya lo resolvió)
+        Long userId = currentUserContext.getUserId();
     
         // Determinar si el usuario es administrador
-        boolean isAdmin = currentUser.getRole().getId() == 1;
+        boolean isAdmin = currentUserContext.isAdmin();
     
-        // Buscar la tarea dependiendo del rol del usuario
-        Task task = isAdmin 
-                ? taskRepository.findById(id).orElseThrow(() -> new NotFoundException("Task not found with id " + id))
-                : taskRepository.findByIdAndUserId(id, userId).orElseThrow(() -> new NotFoundException("Task not found for this user"));
+        // Buscar la tarea dependiendo del rol del usuario (una sola consulta con estado, usuario y rol)
+        TaskSummary task = isAdmin 
+                ? taskRepository.findSummaryById(id).orElseThrow(() -> new NotFoundException("Task not found with id " + id))
+                : taskRepository.findSummaryByIdAndUserId(id, userId).orElseThrow(() -> new NotFoundException("Task not found for this user"));
     
         // Mapear la tarea encontrada a un DTO y devolverla
         return TaskMapper.toDTO(task);
@@ -229,9 +381,9 @@ public class TaskServiceImpl implements TaskService {
     @Transactional
     @Override
     public TaskResponseDto changeStatus(Long taskId, Long statusId) throws NotFoundException, DataInvalidException, ServiceLogicException {
-            // Buscar la tarea actual
-            Task task = taskRepository.findById(taskId)
-                    .orElseThrow(() -> new NotFoundException("Task not found with id " + taskId));
+            // Solo las tareas del usuario; la respuesta toma sus datos del contexto
+            Task task = taskRepository.findByIdAndUserId(taskId, currentUserContext.getUserId())
+                    .orElseThrow(() -> new NotFoundException("Task not found for this user"));
     
             // Validar si el status existe
             // Status status = statusRepository.findById(statusId)
@@ -250,7 +402,299 @@ public class TaskServiceImpl implements TaskService {
             task.setStatus(status);
     
             // Guardar la tarea con el nuevo status
-            return TaskMapper.toDTO(task);
+            return toResponse(task);
        
     }
+
+    /**
+     * Respuesta de una escritura sin inicializar el proxy del usuario: el estado
+     * ya viene del registro y, si la tarea es del usuario actual, sus datos se
+     * toman del contexto de la petición.
+     */
+    private TaskResponseDto toResponse(Task task) throws ServiceLogicException {
+        // getId() sobre el proxy no lo inicializa
+        if (task.getUser().getId().equals(currentUserContext.getUserId())) {
+            return TaskMapper.toDTO(task, UserMapper.toDTO(currentUserContext.getUser()));
+        }
+        return TaskMapper.toDTO(task);
+    }
+
+    /**
+     * Guarda la tarea y fuerza el flush para que una violación de la restricción
+     * única (user_id, name) se detecte aquí y no al confirmar la transacción.
+     */
+    private Task saveUnique(Task task) throws DataInvalidException {
+        try {
+            return taskRepository.saveAndFlush(task);
+        } catch (DataIntegrityViolationException e) {
+            if (TaskNameConstraint.isViolatedBy(e)) {
+                throw TaskNameConstraint.duplicateName();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Crea un lote de tareas para el usuario actual en una sola transacción.
+     *
+     * Los estados se buscan con una consulta y los nombres ya usados con otra; los
+     * elementos inválidos se reportan sin detener al resto del lote.
+     */
+    @Override
+    public BatchTaskResponseDto createBatch(List<BatchCreateTaskItemDto> items) throws ServiceLogicException, DataInvalidException {
+        return runBatch(items, this::createItems);
+    }
+
+    private BatchTaskResultDto[] createItems(List<BatchCreateTaskItemDto> items) {
+        Long userId = currentUserContext.getUserId();
+        User owner = userRepository.getReferenceById(userId);
+        Map<Long, Status> statuses = findStatuses(items.stream().map(BatchCreateTaskItemDto::statusId).toList());
+
+        // Nombres que el usuario ya tiene; la comparación ignora mayúsculas como la colación de MySQL
+        Set<String> names = items.stream().map(BatchCreateTaskItemDto::name).collect(Collectors.toSet());
+        Set<String> takenNames = taskRepository.findNamesByUserIdInAndNameIn(Set.of(userId), names).stream()
+                .map(taskName -> nameKey(taskName.userId(), taskName.name()))
+                .collect(Collectors.toSet());
+
+        BatchTaskResultDto[] results = new BatchTaskResultDto[items.size()];
+        Map<Integer, Task> pending = new HashMap<>();
+        Set<String> batchNames = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            BatchCreateTaskItemDto item = items.get(i);
+            Map<String, Map<String, String>> errors = new HashMap<>();
+            Status status = statuses.get(item.statusId());
+            if (status == null) {
+                errors.put("statusId", Map.of("message", "Status not found with id " + item.statusId()));
+            }
+            String key = nameKey(userId, item.name());
+            if (takenNames.contains(key) || !batchNames.add(key)) {
+                errors.putAll(TaskNameConstraint.errors());
+            }
+            if (!errors.isEmpty()) {
+                results[i] = new BatchTaskResultDto(i, FAILED, null, errors);
+                continue;
+            }
+            pending.put(i, new Task(item.name(), item.description(), status, owner));
+        }
+
+        taskRepository.saveAll(pending.values());
+        taskCountService.recordCreated(userId, pending.size());
+        // El usuario de la respuesta sale del contexto, sin inicializar la referencia
+        UserResponseDto ownerDto = UserMapper.toDTO(currentUserContext.getUser());
+        pending.forEach((index, task) -> results[index] = new BatchTaskResultDto(index, CREATED, TaskMapper.toDTO(task, ownerDto), null));
+        return results;
+    }
+
+    /**
+     * Actualiza un lote de tareas en una sola transacción. Un usuario solo puede
+     * modificar sus propias tareas; las de otro se reportan como no encontradas.
+     */
+    @Override
+    public BatchTaskResponseDto updateBatch(List<BatchUpdateTaskItemDto> items) throws ServiceLogicException, DataInvalidException {
+        return runBatch(items, this::updateItems);
+    }
+
+    private BatchTaskResultDto[] updateItems(List<BatchUpdateTaskItemDto> items) {
+        Map<Long, Task> tasks = findTasks(items.stream().map(BatchUpdateTaskItemDto::id).toList());
+        Map<Long, Status> statuses = findStatuses(items.stream().map(BatchUpdateTaskItemDto::statusId).toList());
+
+        // Nombres ya usados por los dueños de las tareas del lote, con el id de la tarea que los tiene
+        Set<Long> userIds = tasks.values().stream().map(task -> task.getUser().getId()).collect(Collectors.toSet());
+        Set<String> names = items.stream().map(BatchUpdateTaskItemDto::name).collect(Collectors.toSet());
+        Map<String, Long> takenNames = userIds.isEmpty() ? Map.of()
+                : taskRepository.findNamesByUserIdInAndNameIn(userIds, names).stream()
+                        .collect(Collectors.toMap(taskName -> nameKey(taskName.userId(), taskName.name()),
+                                TaskName::id, (first, second) -> first));
+
+        BatchTaskResultDto[] results = new BatchTaskResultDto[items.size()];
+        Map<Integer, Task> pending = new HashMap<>();
+        Set<Long> batchIds = new HashSet<>();
+        Set<String> batchNames = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            BatchUpdateTaskItemDto item = items.get(i);
+            Map<String, Map<String, String>> errors = new HashMap<>();
+            Task task = tasks.get(item.id());
+            if (task == null) {
+                errors.put("id", Map.of("message", "Task not found with id " + item.id()));
+            } else if (!batchIds.add(item.id())) {
+                errors.put("id", Map.of("message", "Task appears more than once in the batch"));
+            }
+            Status status = statuses.get(item.statusId());
+            if (status == null) {
+                errors.put("statusId", Map.of("message", "Status not found with id " + item.statusId()));
+            }
+            if (errors.isEmpty()) {
+                String key = nameKey(task.getUser().getId(), item.name());
+                Long owner = takenNames.get(key);
+                if ((owner != null && !owner.equals(task.getId())) || !batchNames.add(key)) {
+                    errors.putAll(TaskNameConstraint.errors());
+                }
+            }
+            if (!errors.isEmpty()) {
+                results[i] = new BatchTaskResultDto(i, FAILED, null, errors);
+                continue;
+            }
+            task.setName(item.name());
+            task.setDescription(item.description());
+            task.setStatus(status);
+            pending.put(i, task);
+        }
+
+        taskRepository.saveAll(pending.values());
+        pending.forEach((index, task) -> results[index] = new BatchTaskResultDto(index, UPDATED, TaskMapper.toDTO(task), null));
+        return results;
+    }
+
+    /**
+     * Cambia el estado de un lote de tareas en una sola transacción.
+     */
+    @Override
+    public BatchTaskResponseDto changeStatusBatch(List<BatchStatusChangeItemDto> items) throws ServiceLogicException, DataInvalidException {
+        return runBatch(items, this::changeStatusItems);
+    }
+
+    private BatchTaskResultDto[] changeStatusItems(List<BatchStatusChangeItemDto> items) {
+        Map<Long, Task> tasks = findTasks(items.stream().map(BatchStatusChangeItemDto::taskId).toList());
+        Map<Long, Status> statuses = findStatuses(items.stream().map(BatchStatusChangeItemDto::statusId).toList());
+
+        BatchTaskResultDto[] results = new BatchTaskResultDto[items.size()];
+        Map<Integer, Task> pending = new HashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            BatchStatusChangeItemDto item = items.get(i);
+            Map<String, Map<String, String>> errors = new HashMap<>();
+            Task task = tasks.get(item.taskId());
+            if (task == null) {
+                errors.put("taskId", Map.of("message", "Task not found with id " + item.taskId()));
+            }
+            Status status = statuses.get(item.statusId());
+            if (status == null) {
+                errors.put("statusId", Map.of("message", "Status not found with id " + item.statusId()));
+            }
+            if (!errors.isEmpty()) {
+                results[i] = new BatchTaskResultDto(i, FAILED, null, errors);
+                continue;
+            }
+            // Si la tarea se repite en el lote, gana el último cambio
+            task.setStatus(status);
+            pending.put(i, task);
+        }
+
+        taskRepository.saveAll(pending.values());
+        pending.forEach((index, task) -> results[index] = new BatchTaskResultDto(index, UPDATED, TaskMapper.toDTO(task), null));
+        return results;
+    }
+
+    // Tareas del lote en una consulta, limitadas a las del usuario
+    private Map<Long, Task> findTasks(List<Long> ids) throws ServiceLogicException {
+        List<Task> tasks = taskRepository.findAllByIdInAndUserId(new HashSet<>(ids), currentUserContext.getUserId());
+        return tasks.stream().collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    private Map<Long, Status> findStatuses(List<Long> ids) {
+        Map<Long, Status> statuses = new HashMap<>();
+        new HashSet<>(ids).forEach(id -> referenceDataRegistry.findStatus(id).ifPresent(status -> statuses.put(id, status)));
+        return statuses;
+    }
+
+    private static String nameKey(Long userId, String name) {
+        return userId + "|" + TaskNameConstraint.key(name);
+    }
+
+    /**
+     * Valida cada elemento y aplica los válidos en una sola transacción con un
+     * solo flush, para que Hibernate agrupe las sentencias en lotes JDBC. Un
+     * elemento inválido se reporta en su posición sin rechazar la petición.
+     *
+     * Si la restricción única rechaza el flush (un alta concurrente, o dos nombres
+     * que la colación considera iguales y la comprobación en memoria no detectó),
+     * la transacción se revierte y los elementos que habían pasado la validación
+     * se aplican uno a uno, cada uno en su propia transacción: solo fallan los que
+     * chocan.
+     *
+     * @param operation Valida y guarda (sin flush) los elementos recibidos;
+     *                  devuelve un resultado por elemento en el mismo orden.
+     */
+    private <T> BatchTaskResponseDto runBatch(List<T> items, Function<List<T>, BatchTaskResultDto[]> operation) {
+        BatchTaskResultDto[] results = new BatchTaskResultDto[items.size()];
+        List<Integer> validIndexes = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            Map<String, Map<String, String>> errors = validate(items.get(i));
+            if (errors.isEmpty()) {
+                validIndexes.add(i);
+            } else {
+                results[i] = new BatchTaskResultDto(i, FAILED, null, errors);
+            }
+        }
+        if (validIndexes.isEmpty()) {
+            return toBatchResponse(results);
+        }
+
+        List<T> valid = validIndexes.stream().map(items::get).toList();
+        AtomicReference<BatchTaskResultDto[]> firstPass = new AtomicReference<>();
+        try {
+            BatchTaskResultDto[] applied = transactionTemplate.execute(status -> {
+                firstPass.set(operation.apply(valid));
+                taskRepository.flush();
+                return firstPass.get();
+            });
+            for (int j = 0; j < valid.size(); j++) {
+                results[validIndexes.get(j)] = withIndex(applied[j], validIndexes.get(j));
+            }
+            return toBatchResponse(results);
+        } catch (DataIntegrityViolationException e) {
+            if (!TaskNameConstraint.isViolatedBy(e)) {
+                throw e;
+            }
+            log.info("Batch of {} tasks violated {}, applying items one by one", valid.size(), TaskNameConstraint.NAME);
+        }
+
+        BatchTaskResultDto[] prepared = firstPass.get();
+        for (int j = 0; j < valid.size(); j++) {
+            int index = validIndexes.get(j);
+            // Los que ya fallaron la validación del lote no se reintentan (por ejemplo, ids repetidos)
+            results[index] = prepared != null && FAILED.equals(prepared[j].getStatus())
+                    ? withIndex(prepared[j], index)
+                    : runItem(valid.get(j), index, operation);
+        }
+        return toBatchResponse(results);
+    }
+
+    private <T> BatchTaskResultDto runItem(T item, int index, Function<List<T>, BatchTaskResultDto[]> operation) {
+        try {
+            BatchTaskResultDto result = transactionTemplate.execute(status -> {
+                BatchTaskResultDto[] single = operation.apply(List.of(item));
+                taskRepository.flush();
+                return single[0];
+            });
+            return withIndex(result, index);
+        } catch (DataIntegrityViolationException e) {
+            if (!TaskNameConstraint.isViolatedBy(e)) {
+                throw e;
+            }
+            return new BatchTaskResultDto(index, FAILED, null, TaskNameConstraint.errors());
+        }
+    }
+
+    // Mismo formato que los errores de @Valid en los endpoints individuales
+    private Map<String, Map<String, String>> validate(Object item) {
+        Map<String, Map<String, String>> errors = new HashMap<>();
+        if (item == null) {
+            errors.put("item", Map.of("message", "Item is mandatory"));
+            return errors;
+        }
+        validator.validate(item).forEach(violation -> errors.put(violation.getPropertyPath().toString(),
+                Map.of("message", violation.getMessage())));
+        return errors;
+    }
+
+    private static BatchTaskResultDto withIndex(BatchTaskResultDto result, int index) {
+        result.setIndex(index);
+        return result;
+    }
+
+    private static BatchTaskResponseDto toBatchResponse(BatchTaskResultDto[] results) {
+        List<BatchTaskResultDto> list = new ArrayList<>(Arrays.asList(results));
+        int failed = (int) list.stream().filter(result -> FAILED.equals(result.getStatus())).count();
+        return new BatchTaskResponseDto(list.size() - failed, failed, list);
+    }
 }
@@ -0,0 +1,66 @@
+package com.azael.taskapp.services.impl;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.azael.taskapp.persistence.repositories.UserRepository;
+import com.azael.taskapp.services.TokenVersionService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Versión vigente de los tokens de cada usuario. Al desactivar un usuario o
+ * cambiar su rol o su contraseña se incrementa su versión y los tokens emitidos
+ * antes dejan de valer.
+ *
+ * Las versiones se guardan en una caché acotada durante un intervalo corto para
+ * que el modo stateless no consulte la base de datos en cada petición; los
+ * cambios hechos en otra instancia se notan como mucho al vencer ese intervalo.
+ */
+@Component
+public class TokenVersionServiceImpl implements TokenVersionService {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, Integer> versions;
+
+    public TokenVersionServiceImpl(UserRepository userRepository, MeterRegistry meterRegistry,
+            @Value("${api.security.token.version-cache-max-size}") long maxSize,
+            @Value("${api.security.token.version-check-ttl}") long ttl) {
+        this.userRepository = userRepository;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, versions, "users.token_versions");
+    }
+
+    @Override
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        // Un usuario que ya no existe no se guarda: sus tokens no valen
+        Integer version = versions.get(userId, key -> userRepository.findTokenVersionById(key).orElse(null));
+        return version != null && version == tokenVersion;
+    }
+
+    // Solo se aplica si la transacción se confirma; tras un rollback la versión en la base de datos no cambió
+    @Override
+    public void update(Long userId, int tokenVersion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            versions.put(userId, tokenVersion);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                versions.put(userId, tokenVersion);
+            }
+        });
+    }
+}
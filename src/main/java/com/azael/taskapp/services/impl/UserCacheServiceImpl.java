@@ -0,0 +1,104 @@
+package com.azael.taskapp.services.impl;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.azael.taskapp.persistence.repositories.UserRepository;
+import com.azael.taskapp.security.UserSnapshot;
+import com.azael.taskapp.services.UserCacheService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Caché acotada de usuarios (con su rol) por username y por id.
+ *
+ * Guarda copias inmutables ({@link UserSnapshot}), nunca entidades: no llevan el
+ * hash de la contraseña y se pueden compartir entre peticiones.
+ *
+ * La tabla users se lee en cada petición autenticada pero casi nunca se escribe.
+ * UserServiceImpl invalida las entradas de la instancia que hace el cambio; las
+ * demás instancias no se enteran, así que un usuario desactivado o con otro rol
+ * sigue autenticándose allí con los datos anteriores como mucho
+ * {@code api.security.user-cache.ttl} (5 s por defecto). Las búsquedas sin
+ * resultado no se guardan.
+ */
+@Component
+public class UserCacheServiceImpl implements UserCacheService {
+
+    private final UserRepository userRepository;
+    private final Cache<String, UserSnapshot> usersByUsername;
+    private final Cache<Long, UserSnapshot> usersById;
+
+    public UserCacheServiceImpl(UserRepository userRepository, MeterRegistry meterRegistry,
+            @Value("${api.security.user-cache.max-size}") long maxSize,
+            @Value("${api.security.user-cache.ttl}") long ttl) {
+        this.userRepository = userRepository;
+        this.usersByUsername = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .recordStats()
+                .build();
+        this.usersById = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttl))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, usersByUsername, "users.by_username");
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "users.by_id");
+    }
+
+    @Override
+    public Optional<UserSnapshot> findByUsername(String username) {
+        return Optional.ofNullable(usersByUsername.get(normalize(username),
+                key -> userRepository.findByUsernameIgnoreCase(username).map(UserSnapshot::of).orElse(null)));
+    }
+
+    @Override
+    public Optional<UserSnapshot> findById(Long id) {
+        return Optional.ofNullable(usersById.get(id,
+                key -> userRepository.findById(id).map(UserSnapshot::of).orElse(null)));
+    }
+
+    /**
+     * Invalida un usuario en ambas cachés. Si hay una transacción activa se vuelve
+     * a invalidar al confirmarse, para descartar lo que otra petición haya cargado
+     * con los datos anteriores mientras tanto.
+     *
+     * @param id        Id del usuario.
+     * @param usernames Usernames con los que pudo haberse guardado (el anterior y el nuevo).
+     */
+    @Override
+    public void evict(Long id, String... usernames) {
+        invalidate(id, usernames);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(id, usernames);
+                }
+            });
+        }
+    }
+
+    private void invalidate(Long id, String... usernames) {
+        usersById.invalidate(id);
+        for (String username : usernames) {
+            if (username != null) {
+                usersByUsername.invalidate(normalize(username));
+            }
+        }
+    }
+
+    private static String normalize(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+}
@@ -2,9 +2,9 @@ package com.azael.taskapp.services.impl;
 
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
@@ -18,8 +18,10 @@ import com.azael.taskapp.persistence.dto.response.user.UserResponseDto;
 import com.azael.taskapp.persistence.entities.Role;
 import com.azael.taskapp.persistence.entities.User;
 import com.azael.taskapp.persistence.mappers.UserMapper;
-import com.azael.taskapp.persistence.repositories.RoleRepository;
 import com.azael.taskapp.persistence.repositories.UserRepository;
+import com.azael.taskapp.services.ReferenceDataRegistry;
+import com.azael.taskapp.services.TokenVersionService;
+import com.azael.taskapp.services.UserCacheService;
 import com.azael.taskapp.services.UserService;
 import com.azael.taskapp.validation.user.edit.UpdateUserValidator;
 
@@ -33,11 +35,15 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private UserRepository userRepository;
     @Autowired
-    private RoleRepository roleRepository;
+    private ReferenceDataRegistry referenceDataRegistry;
     @Autowired
     private BCryptPasswordEncoder passwordEncoder;
     @Autowired
     private UpdateUserValidator userValidator;
+    @Autowired
+    private TokenVersionService tokenVersionService;
+    @Autowired
+    private UserCacheService userCacheService;
 
     @Transactional
     @Override
@@ -71,7 +77,7 @@ public class UserServiceImpl implements UserService {
             //     errors.put("role", roleError);
             // } else {
                 // Recuperar el rol del repositorio
-                Role role = roleRepository.findById(newUserDetails.roleId())
+                Role role = referenceDataRegistry.findRole(newUserDetails.roleId())
                 .orElseThrow(() -> new NotFoundException("Role not found with id " + newUserDetails.roleId()));  // Mejorar el mensaje de la excepción
             
                 // {
@@ -94,13 +100,16 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public Page<User> getAll(int page, int size, Sort sort, String name, String email) throws ServiceLogicException {
+    public Slice<User> getAll(int page, int size, Sort sort, String name, String email, boolean count) throws ServiceLogicException {
             Pageable pageable = PageRequest.of(page, size, sort);
             if (name == "" && email == "") {
-                return userRepository.findAll(pageable);
+                // Sin count se evita el COUNT(*): el Slice solo sabe si hay página siguiente
+                return count ? userRepository.findAll(pageable) : userRepository.findSliceBy(pageable);
             }
             // Si se proporcionan filtros, usar un método personalizado en el repositorio
-            return userRepository.findByNameLikeOrEmailLike(name, email, pageable);
+            return count
+                    ? userRepository.findByNameLikeOrEmailLike(name, email, pageable)
+                    : userRepository.findSliceByNameLikeOrEmailLike(name, email, pageable);
     }
     @Transactional
     @Override
@@ -139,7 +148,7 @@ public class UserServiceImpl implements UserService {
                 //     errors.put("role", roleError);
                 // } else {
                     // Recuperar el rol del repositorio
-                Role role = roleRepository.findById(newUserDetails.roleId())
+                Role role = referenceDataRegistry.findRole(newUserDetails.roleId())
                 .orElseThrow(() -> new NotFoundException("Role not found with id " + newUserDetails.roleId())
                 // {
                 //     Map<String, String> roleError = new HashMap<>();
@@ -159,13 +168,26 @@ public class UserServiceImpl implements UserService {
                 //     throw new DataInvalidException("Validation failed", errors);
                 // }
         
+                // El username puede cambiar: se invalidan tanto el anterior como el nuevo
+                userCacheService.evict(id, user.getUsername(), newUserDetails.username());
+
+                // Los tokens emitidos antes solo dejan de valer si cambian el rol o la contraseña;
+                // editar el perfil no cierra las sesiones del usuario
+                boolean passwordChanged = !passwordEncoder.matches(newUserDetails.password(), user.getPassword());
+                boolean roleChanged = !role.getId().equals(user.getRole().getId());
+
                 // Actualizar los detalles del usuario si no hay errores
                 user.setName(newUserDetails.name());
                 user.setUsername(newUserDetails.username());
                 user.setEmail(newUserDetails.email());
-                user.setPassword(passwordEncoder.encode(newUserDetails.password()));
+                if (passwordChanged) {
+                    user.setPassword(passwordEncoder.encode(newUserDetails.password()));
+                }
                 user.setPhone(newUserDetails.phone());
                 user.setRole(role);
+                if (passwordChanged || roleChanged) {
+                    invalidateTokens(user);
+                }
 
                 return UserMapper.toDTO(userRepository.save(user));
     }
@@ -175,6 +197,7 @@ public class UserServiceImpl implements UserService {
     @Override
     public void delete(Long id) throws NotFoundException, ServiceLogicException {
             User user = userRepository.findById(id).orElseThrow(() -> new NotFoundException("User not found with id " + id));
+            userCacheService.evict(id, user.getUsername());
             userRepository.delete(user);   throw new ServiceLogicException("Unexpected error occurred while deleting user");
     }
 
@@ -191,9 +214,16 @@ public class UserServiceImpl implements UserService {
     
         // Cambiar el estado de 'activo' a lo contrario
         user.setActive(!user.isActive());
+        invalidateTokens(user);
+        userCacheService.evict(id, user.getUsername());
     
         // No es necesario guardar de nuevo explícitamente, ya que el cambio se persistirá automáticamente al final de la transacción.
         return UserMapper.toDTO(user);  // Devolver el DTO directamente
     }
+
+    private void invalidateTokens(User user) {
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        tokenVersionService.update(user.getId(), user.getTokenVersion());
+    }
     
 }
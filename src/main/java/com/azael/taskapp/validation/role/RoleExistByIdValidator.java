@@ -2,7 +2,7 @@ package com.azael.taskapp.validation.role;
 
 import org.springframework.beans.factory.annotation.Autowired;
 
-import com.azael.taskapp.persistence.repositories.RoleRepository;
+import com.azael.taskapp.services.ReferenceDataRegistry;
 
 
 import jakarta.validation.ConstraintValidator;
@@ -10,11 +10,11 @@ import jakarta.validation.ConstraintValidatorContext;
 
 public class RoleExistByIdValidator  implements ConstraintValidator<RoleExistById, Long> {
     @Autowired
-    private RoleRepository roleRepository;
+    private ReferenceDataRegistry referenceDataRegistry;
 
     @Override
     public boolean isValid(Long roleId, ConstraintValidatorContext context) {
-        return roleId != null && roleRepository.existsById(roleId);
+        return referenceDataRegistry.roleExists(roleId);
     }
 
 }
@@ -2,16 +2,16 @@ package com.azael.taskapp.validation.status;
 
 
 
-import com.azael.taskapp.persistence.repositories.StatusRepository;
+import com.azael.taskapp.services.ReferenceDataRegistry;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
 public class StatusExistByIdValidator implements ConstraintValidator<StatusExistByid, Long> {
-    private StatusRepository statusRepository;
+    private ReferenceDataRegistry referenceDataRegistry;
 
-    public StatusExistByIdValidator(StatusRepository statusRepository) {
-        this.statusRepository = statusRepository;
+    public StatusExistByIdValidator(ReferenceDataRegistry referenceDataRegistry) {
+        this.referenceDataRegistry = referenceDataRegistry;
     }
 
     @Override
@@ -19,6 +19,6 @@ public class StatusExistByIdValidator implements ConstraintValidator<StatusExist
         if (statusId == null) {
             return true;  // Si el nombre de la tarea está vacío, no validamos aquí (puede validarse por otros medios)
         }
-        return statusRepository.existsById(statusId);
+        return referenceDataRegistry.statusExists(statusId);
     }
 }
@@ -7,20 +7,20 @@ import org.springframework.stereotype.Component;
 
 import com.azael.taskapp.exceptions.DataInvalidException;
 import com.azael.taskapp.persistence.entities.Status;
-import com.azael.taskapp.persistence.repositories.StatusRepository;
+import com.azael.taskapp.services.ReferenceDataRegistry;
 
 @Component
 public class StatusValidator {
 
-    private final StatusRepository statusRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
-    public StatusValidator(StatusRepository statusRepository) {
-        this.statusRepository = statusRepository;
+    public StatusValidator(ReferenceDataRegistry referenceDataRegistry) {
+        this.referenceDataRegistry = referenceDataRegistry;
     }
 
     // Método para validar la existencia del Status y devolverlo
     public Status validateStatusExistence(Long statusId) throws DataInvalidException {
-        return statusRepository.findById(statusId)
+        return referenceDataRegistry.findStatus(statusId)
                 .orElseThrow(() -> {
                     Map<String, String> statusError = new HashMap<>();
                     statusError.put("message", "Status does not exist with id " + statusId);
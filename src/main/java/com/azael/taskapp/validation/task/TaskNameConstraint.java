@@ -0,0 +1,46 @@
+package com.azael.taskapp.validation.task;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.azael.taskapp.exceptions.DataInvalidException;
+
+/**
+ * Unicidad del nombre de tarea por usuario, garantizada por la restricción
+ * única uk_tasks_user_name de la tabla tasks.
+ *
+ * Las escrituras se hacen sin consultar antes si el nombre existe; si la base de
+ * datos rechaza la fila, la violación se traduce al mismo error de validación
+ * que recibía el cliente antes.
+ */
+public class TaskNameConstraint {
+    public static final String NAME = "uk_tasks_user_name";
+
+    public static boolean isViolatedBy(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.contains(NAME);
+    }
+
+    public static DataInvalidException duplicateName() {
+        return new DataInvalidException("Validation failed", errors());
+    }
+
+    /**
+     * Clave para comparar nombres en memoria como la colación por defecto de
+     * MySQL 8 (utf8mb4_0900_ai_ci): sin distinguir mayúsculas ni acentos. Es una
+     * aproximación; lo que se escape lo rechaza la restricción al guardar.
+     */
+    public static String key(String name) {
+        String withoutAccents = Normalizer.normalize(name, Normalizer.Form.NFD).replaceAll("\\p{M}", "");
+        return withoutAccents.toLowerCase(Locale.ROOT);
+    }
+
+    // Mismo error por elemento, para las operaciones que reportan fila a fila
+    public static Map<String, Map<String, String>> errors() {
+        Map<String, String> taskNameError = Map.of("message", "Task name must be unique for the user.");
+        return Map.of("name", taskNameError);
+    }
+}
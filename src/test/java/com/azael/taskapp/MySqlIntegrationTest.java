@@ -0,0 +1,96 @@
+package com.azael.taskapp;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.azael.taskapp.persistence.entities.Role;
+import com.azael.taskapp.persistence.entities.User;
+import com.azael.taskapp.persistence.repositories.UserRepository;
+import com.azael.taskapp.services.ReferenceDataRegistry;
+import com.azael.taskapp.services.impl.JwtServiceImpl;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Base de las pruebas de integración: la aplicación completa sobre un MySQL en
+ * contenedor, con las estadísticas de Hibernate activas para contar consultas.
+ *
+ * El contenedor se inicia una sola vez y lo comparten todas las clases, igual
+ * que el contexto de Spring; por eso cada prueba crea sus propios usuarios.
+ * ddl-auto=create-drop carga import.sql (roles y estados). Sin Docker las
+ * pruebas se omiten en lugar de fallar.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "server.servlet.context-path=",
+        "api.security.token.secret=dGFza2FwcC1pbnRlZ3JhdGlvbi10ZXN0cy1zaWduaW5nLWtleS0wMTIzNDU2Nzg5",
+        "api.security.token.expiration=3600000",
+        "api.security.token.refresh-token-expiration=10080",
+        "api.security.rate-limit.requests-per-minute=100000",
+        "api.security.rate-limit.user-requests-per-minute=100000",
+        "api.tasks.plan-check.enabled=false",
+        // Las tareas periódicas no deben sumar consultas a las que cuenta cada prueba
+        "api.security.revoked-token.sync-interval=3600000",
+        "api.security.revoked-token.purge-interval=3600000",
+        "api.catalogs.refresh-interval=3600000"
+})
+@AutoConfigureMockMvc
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class MySqlIntegrationTest {
+    protected static final long ADMIN_ROLE_ID = 1L;
+    protected static final long USER_ROLE_ID = 2L;
+
+    @ServiceConnection
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    static {
+        if (DockerClientFactory.instance().isDockerAvailable()) {
+            MYSQL.start();
+        }
+    }
+
+    private static final AtomicInteger USERS = new AtomicInteger();
+
+    @Autowired
+    protected MockMvc mockMvc;
+    @Autowired
+    protected EntityManagerFactory entityManagerFactory;
+    @Autowired
+    protected UserRepository userRepository;
+    @Autowired
+    protected ReferenceDataRegistry referenceDataRegistry;
+    @Autowired
+    protected JwtServiceImpl jwtService;
+
+    protected Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    // Usuario activo con rol USER y nombre único entre pruebas
+    protected User createUser() {
+        return createUser(USER_ROLE_ID);
+    }
+
+    protected User createUser(long roleId) {
+        int n = USERS.incrementAndGet();
+        Role role = referenceDataRegistry.findRole(roleId).orElseThrow();
+        return userRepository.save(new User("Test User " + n, "tester" + n, "tester" + n + "@example.com",
+                "1234567890", "unused", true, role));
+    }
+
+    protected String bearer(User user) {
+        return "Bearer " + jwtService.generateToken(user).get("token");
+    }
+}
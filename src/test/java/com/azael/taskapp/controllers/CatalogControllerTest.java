@@ -0,0 +1,123 @@
+package com.azael.taskapp.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.azael.taskapp.config.CatalogScheduler;
+import com.azael.taskapp.handlers.GlobalExceptionHandler;
+import com.azael.taskapp.persistence.entities.Role;
+import com.azael.taskapp.persistence.entities.Status;
+import com.azael.taskapp.services.ReferenceDataRegistry;
+import com.azael.taskapp.services.impl.CatalogServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Catálogos servidos desde la instantánea: ETag y 304, ETag estable si la
+ * recarga no cambia nada, y una recarga fallida que responde 400 y sigue
+ * sirviendo el catálogo anterior.
+ */
+class CatalogControllerTest {
+    private ReferenceDataRegistry referenceDataRegistry;
+    private CatalogServiceImpl catalogService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        referenceDataRegistry = mock(ReferenceDataRegistry.class);
+        when(referenceDataRegistry.getStatuses()).thenReturn(List.of(newStatus(1L, "PENDING"), newStatus(2L, "COMPLETED")));
+        when(referenceDataRegistry.getRoles()).thenReturn(List.of(newRole(1L, "ADMIN"), newRole(2L, "USER")));
+        catalogService = new CatalogServiceImpl(referenceDataRegistry, new ObjectMapper());
+        catalogService.load();
+
+        CatalogController controller = new CatalogController();
+        ReflectionTestUtils.setField(controller, "catalogService", catalogService);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void matchingETagIsAnsweredWithNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/catalogs/status"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(jsonPath("$.message").value("Status data successfully obtained"))
+                .andExpect(jsonPath("$.results[0].name").value("PENDING"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertThat(etag).startsWith("\"").endsWith("\"");
+        mockMvc.perform(get("/catalogs/status").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().bytes(new byte[0]));
+        // Cada catálogo tiene su propio ETag
+        mockMvc.perform(get("/catalogs/roles").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void reloadKeepsTheETagUnlessTheContentChanged() throws Exception {
+        String etag = statusETag();
+
+        mockMvc.perform(post("/catalogs/refresh")).andExpect(status().isOk());
+        assertThat(statusETag()).isEqualTo(etag);
+
+        when(referenceDataRegistry.getStatuses()).thenReturn(List.of(newStatus(1L, "PENDING"), newStatus(2L, "DONE")));
+        mockMvc.perform(post("/catalogs/refresh")).andExpect(status().isOk());
+        mockMvc.perform(get("/catalogs/status").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[1].name").value("DONE"));
+    }
+
+    @Test
+    void failedReloadIsReportedAndThePreviousCatalogIsStillServed() throws Exception {
+        String etag = statusETag();
+        doThrow(new IllegalStateException("Connection refused")).when(referenceDataRegistry).reload();
+
+        mockMvc.perform(post("/catalogs/refresh"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("FAIL"))
+                .andExpect(jsonPath("$.message").value("Catalogs could not be reloaded; the previous ones are still served"));
+
+        mockMvc.perform(get("/catalogs/status").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        // La recarga periódica solo lo registra y reintenta en el siguiente intervalo
+        assertThatCode(() -> new CatalogScheduler(catalogService).refreshCatalogs()).doesNotThrowAnyException();
+    }
+
+    private String statusETag() throws Exception {
+        return mockMvc.perform(get("/catalogs/status"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private static Status newStatus(Long id, String name) {
+        Status status = new Status();
+        status.setId(id);
+        status.setName(name);
+        return status;
+    }
+
+    private static Role newRole(Long id, String name) {
+        Role role = new Role();
+        role.setId(id);
+        role.setName(name);
+        return role;
+    }
+}
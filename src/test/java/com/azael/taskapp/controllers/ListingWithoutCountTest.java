@@ -0,0 +1,95 @@
+package com.azael.taskapp.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+
+import com.azael.taskapp.MySqlIntegrationTest;
+import com.azael.taskapp.persistence.entities.Status;
+import com.azael.taskapp.persistence.entities.Task;
+import com.azael.taskapp.persistence.entities.User;
+import com.azael.taskapp.persistence.repositories.TaskRepository;
+
+/**
+ * Listados con count=false: cuando el total no se conoce la respuesta no trae
+ * metadatos de página ni enlace 'last', pero sí 'next' si hay más filas, y no
+ * se ejecuta ningún COUNT.
+ */
+class ListingWithoutCountTest extends MySqlIntegrationTest {
+    private static final int TASKS = 15;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private User user;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        user = createUser();
+        token = bearer(user);
+        Status pending = referenceDataRegistry.findStatus(1L).orElseThrow();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(new Task("Task number " + i, "Description of task number " + i, pending, user));
+        }
+        taskRepository.saveAll(tasks);
+    }
+
+    @Test
+    void taskFilterByShortTermReturnsASliceWithoutMetadata() throws Exception {
+        // Un término de una letra es más corto que el mínimo de la búsqueda de texto completo: usa LIKE
+        statistics().clear();
+        mockMvc.perform(get("/tasks")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .param("size", "10")
+                .param("name", "m")
+                .param("count", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.page").doesNotExist())
+                .andExpect(content().string(containsString("/tasks?page=1&size=10&name=m&sortBy=id&direction=asc&count=false")))
+                .andExpect(content().string(not(containsString("\"last\""))));
+
+        assertThat(statistics().getQueries()).noneMatch(query -> query.toLowerCase().contains("count("));
+    }
+
+    @Test
+    void taskFilterByFullTextTermReturnsASliceWithoutMetadata() throws Exception {
+        mockMvc.perform(get("/tasks")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .param("page", "1")
+                .param("size", "10")
+                .param("name", "number")
+                .param("count", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.page").doesNotExist())
+                // Segunda y última página: enlace a la anterior pero no a la siguiente
+                .andExpect(content().string(containsString("/tasks?page=0&size=10&name=number")))
+                .andExpect(content().string(not(containsString("/tasks?page=2&"))));
+    }
+
+    @Test
+    void userListingWithoutCountReturnsASliceWithoutMetadata() throws Exception {
+        String adminToken = bearer(createUser(ADMIN_ROLE_ID));
+
+        mockMvc.perform(get("/users")
+                .header(HttpHeaders.AUTHORIZATION, adminToken)
+                .param("size", "1")
+                .param("count", "false"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.page").doesNotExist())
+                .andExpect(content().string(containsString("/users?page=1&size=1&")));
+    }
+}
@@ -0,0 +1,154 @@
+package com.azael.taskapp.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.azael.taskapp.MySqlIntegrationTest;
+import com.azael.taskapp.persistence.entities.Status;
+import com.azael.taskapp.persistence.entities.Task;
+import com.azael.taskapp.persistence.entities.User;
+import com.azael.taskapp.persistence.repositories.TaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Endpoints por lote: cada elemento se valida por separado, los válidos se
+ * guardan con sentencias JDBC agrupadas y, si la restricción única rechaza el
+ * lote, se reintentan uno a uno para que solo falle el que choca.
+ */
+class TaskBatchTest extends MySqlIntegrationTest {
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User user;
+    private String token;
+    private Task existing;
+
+    @BeforeEach
+    void setUp() {
+        user = createUser();
+        token = bearer(user);
+        Status pending = referenceDataRegistry.findStatus(1L).orElseThrow();
+        existing = taskRepository.save(new Task("Existing task", "Created before the batch", pending, user));
+    }
+
+    @Test
+    void createReportsInvalidItemsByIndexAndKeepsTheRest() throws Exception {
+        List<Map<String, Object>> items = List.of(
+                createItem("First batch task", 1L),
+                createItem("abc", 1L),
+                createItem("Unknown status task", 99L),
+                createItem("Existing TASK", 1L),
+                createItem("First batch task", 2L),
+                createItem("Second batch task", 2L));
+
+        send(post("/tasks/batch"), items)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.succeeded").value(2))
+                .andExpect(jsonPath("$.results.failed").value(4))
+                .andExpect(jsonPath("$.results.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results.results[1].errors.name").exists())
+                .andExpect(jsonPath("$.results.results[2].errors.statusId").exists())
+                // Nombre ya usado por el usuario (sin distinguir mayúsculas) y repetido dentro del lote
+                .andExpect(jsonPath("$.results.results[3].errors.name").exists())
+                .andExpect(jsonPath("$.results.results[4].errors.name").exists())
+                .andExpect(jsonPath("$.results.results[5].status").value("CREATED"))
+                .andExpect(jsonPath("$.results.results[5].index").value(5));
+
+        assertThat(taskRepository.countByUserId(user.getId())).isEqualTo(3);
+    }
+
+    @Test
+    void createGroupsTheInsertsInJdbcBatches() throws Exception {
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            items.add(createItem("Bulk task " + i, 1L));
+        }
+        // La primera petición llena la caché de usuarios
+        send(post("/tasks/batch"), List.of(createItem("Warm-up task", 1L))).andExpect(status().isOk());
+
+        statistics().clear();
+        send(post("/tasks/batch"), items)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.succeeded").value(200));
+
+        // Una consulta de nombres y unos pocos lotes de INSERT en lugar de 200 sentencias
+        assertThat(statistics().getPrepareStatementCount()).isLessThan(20);
+    }
+
+    @Test
+    void constraintViolationIsRetriedOneByOne() throws Exception {
+        // La colación de MySQL trata "ß" como "ss"; la comparación en memoria no, así que lo rechaza la restricción
+        List<Map<String, Object>> items = List.of(
+                createItem("Straße cleanup", 1L),
+                createItem("Strasse cleanup", 1L),
+                createItem("Unrelated cleanup", 1L));
+
+        send(post("/tasks/batch"), items)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.succeeded").value(2))
+                .andExpect(jsonPath("$.results.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results.results[1].status").value("FAILED"))
+                .andExpect(jsonPath("$.results.results[1].errors.name.message")
+                        .value("Task name must be unique for the user."))
+                .andExpect(jsonPath("$.results.results[2].status").value("CREATED"));
+
+        assertThat(taskRepository.countByUserId(user.getId())).isEqualTo(3);
+    }
+
+    @Test
+    void updateOnlyReachesTheUsersOwnTasks() throws Exception {
+        User other = createUser();
+        Task foreign = taskRepository.save(new Task("Foreign task", "Belongs to another user",
+                referenceDataRegistry.findStatus(1L).orElseThrow(), other));
+
+        send(put("/tasks/batch"), List.of(
+                Map.of("id", existing.getId(), "name", "Renamed task", "description", "Renamed in a batch",
+                        "statusId", 2),
+                Map.of("id", foreign.getId(), "name", "Stolen task", "description", "Renamed in a batch",
+                        "statusId", 2)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.results[0].status").value("UPDATED"))
+                .andExpect(jsonPath("$.results.results[0].task.name").value("Renamed task"))
+                .andExpect(jsonPath("$.results.results[1].errors.id").exists());
+
+        assertThat(taskRepository.findById(foreign.getId()).orElseThrow().getName()).isEqualTo("Foreign task");
+    }
+
+    @Test
+    void statusChangeReportsMissingTasks() throws Exception {
+        send(put("/tasks/batch/status"), List.of(
+                Map.of("taskId", existing.getId(), "statusId", 2),
+                Map.of("taskId", Long.MAX_VALUE, "statusId", 2)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.results[0].task.status.name").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.results.results[1].errors.taskId").exists());
+    }
+
+    private static Map<String, Object> createItem(String name, Long statusId) {
+        return Map.of("name", name, "description", "Created by the batch test", "statusId", statusId);
+    }
+
+    private ResultActions send(MockHttpServletRequestBuilder request, List<?> items) throws Exception {
+        return mockMvc.perform(request
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Map.of("items", items))));
+    }
+}
@@ -0,0 +1,83 @@
+package com.azael.taskapp.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hibernate.stat.EntityStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.azael.taskapp.MySqlIntegrationTest;
+import com.azael.taskapp.persistence.entities.Role;
+import com.azael.taskapp.persistence.entities.Status;
+import com.azael.taskapp.persistence.entities.User;
+import com.azael.taskapp.persistence.repositories.TaskRepository;
+
+/**
+ * Crear una tarea toma el estado del registro en memoria y el usuario del
+ * token: no se consultan las tablas status ni roles, y el dueño se asigna como
+ * referencia sin cargarlo.
+ */
+class TaskCreateReferenceDataTest extends MySqlIntegrationTest {
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private User user;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        user = createUser();
+        token = bearer(user);
+    }
+
+    @Test
+    void createDoesNotQueryStatusOrRole() throws Exception {
+        // La primera petición llena la caché de usuarios, que sí trae el rol con el usuario
+        create("First task").andExpect(status().isCreated());
+
+        statistics().clear();
+        create("Second task").andExpect(status().isCreated())
+                .andExpect(jsonPath("$.results.status.name").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.results.user.username").value(user.getUsername()));
+
+        assertNotQueried(Status.class);
+        assertNotQueried(Role.class);
+        assertThat(statistics().getQueries())
+                .noneMatch(query -> query.matches("(?s).*\\b(Status|Role)\\b.*"));
+    }
+
+    @Test
+    void createAttachesTheOwnerWithoutLoadingIt() throws Exception {
+        create("First task").andExpect(status().isCreated());
+
+        statistics().clear();
+        create("Second task").andExpect(status().isCreated())
+                .andExpect(jsonPath("$.results.user.id").value(user.getId()));
+
+        // getReferenceById: el INSERT solo necesita el id, la respuesta sale del principal
+        assertNotQueried(User.class);
+        // Solo el INSERT: ningún SELECT de users
+        assertThat(statistics().getPrepareStatementCount()).isEqualTo(1);
+        assertThat(taskRepository.countByUserId(user.getId())).isEqualTo(2);
+    }
+
+    private void assertNotQueried(Class<?> entity) {
+        EntityStatistics entityStatistics = statistics().getEntityStatistics(entity.getName());
+        assertThat(entityStatistics.getLoadCount()).as(entity.getSimpleName() + " loads").isZero();
+        assertThat(entityStatistics.getFetchCount()).as(entity.getSimpleName() + " fetches").isZero();
+    }
+
+    private ResultActions create(String name) throws Exception {
+        return mockMvc.perform(post("/tasks")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"" + name + "\",\"description\":\"Created by the test\",\"statusId\":2}"));
+    }
+}
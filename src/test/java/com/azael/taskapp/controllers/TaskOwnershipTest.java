@@ -0,0 +1,110 @@
+package com.azael.taskapp.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.azael.taskapp.MySqlIntegrationTest;
+import com.azael.taskapp.persistence.entities.Status;
+import com.azael.taskapp.persistence.entities.Task;
+import com.azael.taskapp.persistence.entities.User;
+import com.azael.taskapp.persistence.repositories.TaskRepository;
+
+/**
+ * Las escrituras sobre una tarea (PATCH, PUT, cambio de estado y DELETE) solo
+ * alcanzan las del usuario autenticado; la de otro responde 404 sin cambios.
+ */
+class TaskOwnershipTest extends MySqlIntegrationTest {
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private User owner;
+    private User other;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        owner = createUser();
+        other = createUser();
+        Status pending = referenceDataRegistry.findStatus(1L).orElseThrow();
+        task = taskRepository.save(new Task("Owned task", "Task that belongs to the owner", pending, owner));
+    }
+
+    @Test
+    void ownerCanPatchTheTask() throws Exception {
+        send(owner, patchName("Renamed by owner")).andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.name").value("Renamed by owner"));
+    }
+
+    @Test
+    void otherUserCannotPatchTheTask() throws Exception {
+        send(other, patchName("Renamed by someone else")).andExpect(status().isNotFound());
+
+        assertUnchanged();
+    }
+
+    @Test
+    void otherUserCannotUpdateTheTask() throws Exception {
+        send(other, put("/tasks/update/{id}", task.getId())
+                .content("{\"name\":\"Renamed by someone else\",\"description\":\"Changed\",\"statusId\":2}"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Task not found for this user"));
+
+        assertUnchanged();
+    }
+
+    @Test
+    void otherUserCannotChangeTheStatus() throws Exception {
+        send(other, put("/tasks/{taskId}/status", task.getId()).content("{\"statusId\":2}"))
+                .andExpect(status().isNotFound());
+
+        assertUnchanged();
+    }
+
+    @Test
+    void otherUserCannotDeleteTheTask() throws Exception {
+        send(other, delete("/tasks/delete/{id}", task.getId())).andExpect(status().isNotFound());
+
+        assertThat(taskRepository.existsById(task.getId())).isTrue();
+    }
+
+    @Test
+    void ownerCanChangeTheStatusAndDeleteTheTask() throws Exception {
+        send(owner, put("/tasks/{taskId}/status", task.getId()).content("{\"statusId\":2}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.status.id").value(2))
+                .andExpect(jsonPath("$.results.user.id").value(owner.getId()));
+
+        send(owner, delete("/tasks/delete/{id}", task.getId())).andExpect(status().isOk());
+
+        assertThat(taskRepository.existsById(task.getId())).isFalse();
+    }
+
+    private void assertUnchanged() {
+        Task stored = taskRepository.findById(task.getId()).orElseThrow();
+        assertThat(stored.getName()).isEqualTo("Owned task");
+        // getId() sobre el proxy no lo inicializa
+        assertThat(stored.getStatus().getId()).isEqualTo(1L);
+    }
+
+    private MockHttpServletRequestBuilder patchName(String name) {
+        return patch("/tasks/{id}", task.getId()).content("{\"name\":\"" + name + "\"}");
+    }
+
+    private ResultActions send(User user, MockHttpServletRequestBuilder request) throws Exception {
+        return mockMvc.perform(request
+                .header(HttpHeaders.AUTHORIZATION, bearer(user))
+                .contentType(MediaType.APPLICATION_JSON));
+    }
+}
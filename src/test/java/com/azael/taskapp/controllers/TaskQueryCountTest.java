@@ -0,0 +1,105 @@
+package com.azael.taskapp.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.azael.taskapp.MySqlIntegrationTest;
+import com.azael.taskapp.persistence.entities.Status;
+import com.azael.taskapp.persistence.entities.Task;
+import com.azael.taskapp.persistence.entities.User;
+import com.azael.taskapp.persistence.repositories.TaskRepository;
+
+/**
+ * Consultas SQL por petición en el listado y en las escrituras que responden
+ * con la tarea completa. open-in-view está desactivado, así que una relación
+ * LAZY leída fuera de la consulta haría fallar la petición.
+ */
+class TaskQueryCountTest extends MySqlIntegrationTest {
+    private static final int TASKS = 25;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private User user;
+    private String token;
+    private List<Task> tasks;
+
+    @BeforeEach
+    void setUp() {
+        user = createUser();
+        token = bearer(user);
+        Status pending = referenceDataRegistry.findStatus(1L).orElseThrow();
+        tasks = new ArrayList<>();
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(new Task("Task number " + i, "Description of task number " + i, pending, user));
+        }
+        tasks = taskRepository.saveAll(tasks);
+    }
+
+    @Test
+    void listingPageRunsOneStatement() throws Exception {
+        // La primera petición llena la caché de usuarios y el total en memoria
+        getPage(0).andExpect(status().isOk());
+
+        statistics().clear();
+        getPage(1).andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.page.totalElements").value(TASKS));
+
+        assertThat(statistics().getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics().getEntityFetchCount()).isZero();
+    }
+
+    @Test
+    void updateDoesNotLoadStatusOrUserLazily() throws Exception {
+        Long id = tasks.get(0).getId();
+        statistics().clear();
+
+        mockMvc.perform(put("/tasks/update/{id}", id)
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Renamed task\",\"description\":\"Updated description\",\"statusId\":2}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.status.name").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.results.user.username").value(user.getUsername()));
+
+        // Sin cargas perezosas: el estado sale del registro y el usuario del contexto de la petición
+        assertThat(statistics().getEntityFetchCount()).isZero();
+    }
+
+    @Test
+    void changeStatusDoesNotLoadStatusOrUserLazily() throws Exception {
+        Long id = tasks.get(1).getId();
+        statistics().clear();
+
+        mockMvc.perform(put("/tasks/{taskId}/status", id)
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"statusId\":2}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results.status.name").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.results.user.username").value(user.getUsername()));
+
+        assertThat(statistics().getEntityFetchCount()).isZero();
+    }
+
+    private ResultActions getPage(int page) throws Exception {
+        return mockMvc.perform(get("/tasks")
+                .header(HttpHeaders.AUTHORIZATION, token)
+                .param("page", String.valueOf(page))
+                .param("size", "10")
+                .param("count", "false"));
+    }
+}
@@ -0,0 +1,214 @@
+package com.azael.taskapp.controllers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.azael.taskapp.MySqlIntegrationTest;
+import com.azael.taskapp.persistence.entities.Status;
+import com.azael.taskapp.persistence.entities.Task;
+import com.azael.taskapp.persistence.entities.User;
+import com.azael.taskapp.persistence.projections.TaskSummary;
+import com.azael.taskapp.persistence.repositories.TaskRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Paginación por cursor de GET /tasks/scroll: seguir los enlaces 'next' recorre
+ * todas las tareas una sola vez y en orden. El benchmark compara OFFSET y keyset
+ * en páginas profundas; solo corre con -Dbenchmark=true.
+ */
+class TaskScrollTest extends MySqlIntegrationTest {
+    private static final Logger log = LoggerFactory.getLogger(TaskScrollTest.class);
+    private static final int TASKS = 25;
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User user;
+    private String token;
+    private Status pending;
+
+    @BeforeEach
+    void setUp() {
+        user = createUser();
+        token = bearer(user);
+        pending = referenceDataRegistry.findStatus(1L).orElseThrow();
+    }
+
+    @Test
+    void nextLinksVisitEveryTaskOnceInIdOrder() throws Exception {
+        List<Long> expected = seed(TASKS).stream().sorted().toList();
+
+        assertThat(scrollAll("/tasks/scroll?size=" + PAGE_SIZE + "&sortBy=id")).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void nextLinksVisitEveryTaskOnceInNameOrderDescending() throws Exception {
+        List<Long> expected = taskRepository.findAllById(seed(TASKS)).stream()
+                .sorted(Comparator.comparing(Task::getName).thenComparing(Task::getId).reversed())
+                .map(Task::getId)
+                .toList();
+
+        List<Long> ids = scrollAll("/tasks/scroll?size=" + PAGE_SIZE + "&sortBy=name&direction=desc");
+
+        assertThat(ids).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void lastPageHasNoNextLink() throws Exception {
+        seed(3);
+
+        JsonNode results = fetch("/tasks/scroll?size=" + PAGE_SIZE);
+
+        assertThat(ids(results)).hasSize(3);
+        assertThat(link(results, "next")).isNull();
+        assertThat(link(results, "self")).isNotNull();
+    }
+
+    @Test
+    void tamperedCursorIsRejected() throws Exception {
+        mockMvc.perform(get("/tasks/scroll").header(HttpHeaders.AUTHORIZATION, token).param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void keysetPagesCostTheSameAtAnyDepth() {
+        int pages = 10_000;
+        seed(pages * PAGE_SIZE + PAGE_SIZE);
+        Sort sort = Sort.by("id");
+
+        for (int page : new int[] { 1, 100, pages }) {
+            PageRequest pageable = PageRequest.of(page - 1, PAGE_SIZE, sort);
+            // Posición de keyset equivalente: la última fila de la página anterior
+            ScrollPosition position = page == 1
+                    ? ScrollPosition.keyset()
+                    : ScrollPosition.forward(Map.of("id", lastId(PageRequest.of(page - 2, PAGE_SIZE, sort))));
+
+            long offsetNanos = median(() -> taskRepository.findSummariesByUserId(user.getId(), pageable));
+            long keysetNanos = median(
+                    () -> taskRepository.findWindowByUserId(user.getId(), position, sort, Limit.of(PAGE_SIZE)));
+
+            List<Long> offsetIds = taskRepository.findSummariesByUserId(user.getId(), pageable).map(TaskSummary::id)
+                    .getContent();
+            List<Long> keysetIds = taskRepository.findWindowByUserId(user.getId(), position, sort,
+                    Limit.of(PAGE_SIZE)).map(Task::getId).getContent();
+            assertThat(keysetIds).isEqualTo(offsetIds);
+
+            log.info("Page {}: offset + count {} us, keyset {} us", page,
+                    TimeUnit.NANOSECONDS.toMicros(offsetNanos), TimeUnit.NANOSECONDS.toMicros(keysetNanos));
+        }
+    }
+
+    // Sigue los enlaces 'next' desde la URL dada y devuelve los ids en el orden recibido
+    private List<Long> scrollAll(String url) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        int requests = 0;
+        while (url != null) {
+            JsonNode results = fetch(url);
+            ids.addAll(ids(results));
+            url = link(results, "next");
+            assertThat(++requests).as("pages").isLessThanOrEqualTo(TASKS);
+        }
+        return ids;
+    }
+
+    private JsonNode fetch(String url) throws Exception {
+        String body = mockMvc.perform(get(url).header(HttpHeaders.AUTHORIZATION, token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("results");
+    }
+
+    // Las tareas van en _embedded con HAL y en content sin él
+    private static List<Long> ids(JsonNode results) {
+        JsonNode items = results.has("_embedded")
+                ? results.get("_embedded").elements().next()
+                : results.path("content");
+        List<Long> ids = new ArrayList<>();
+        items.forEach(item -> ids.add(item.get("id").asLong()));
+        return ids;
+    }
+
+    private static String link(JsonNode results, String rel) {
+        if (results.has("_links")) {
+            JsonNode link = results.get("_links").get(rel);
+            return link == null ? null : link.get("href").asText();
+        }
+        for (Iterator<JsonNode> links = results.path("links").elements(); links.hasNext();) {
+            JsonNode link = links.next();
+            if (rel.equals(link.get("rel").asText())) {
+                return link.get("href").asText();
+            }
+        }
+        return null;
+    }
+
+    private Long lastId(PageRequest pageable) {
+        List<TaskSummary> content = taskRepository.findSummariesByUserId(user.getId(), pageable).getContent();
+        return content.get(content.size() - 1).id();
+    }
+
+    private static long median(Supplier<?> query) {
+        long[] samples = new long[21];
+        for (int i = 0; i < samples.length; i++) {
+            long start = System.nanoTime();
+            query.get();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[samples.length / 2];
+    }
+
+    private List<Long> seed(int count) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Long> ids = new ArrayList<>(count);
+        for (int offset = 0; offset < count; offset += 1_000) {
+            int first = offset;
+            transactionTemplate.executeWithoutResult(tx -> {
+                List<Task> chunk = new ArrayList<>();
+                for (int i = first; i < Math.min(count, first + 1_000); i++) {
+                    // Nombres fuera del orden de inserción para que el orden por nombre difiera del de id
+                    chunk.add(new Task("Task " + (i * 7919 % count), "Scroll description " + i, pending, user));
+                }
+                taskRepository.saveAll(chunk).forEach(task -> ids.add(task.getId()));
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        return ids;
+    }
+}
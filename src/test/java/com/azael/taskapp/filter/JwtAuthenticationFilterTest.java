@@ -0,0 +1,86 @@
+package com.azael.taskapp.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import com.azael.taskapp.security.CurrentUserContext;
+import com.azael.taskapp.security.UserSnapshot;
+import com.azael.taskapp.services.RevokedTokenService;
+import com.azael.taskapp.services.TokenVersionService;
+import com.azael.taskapp.services.UserCacheService;
+import com.azael.taskapp.services.impl.JwtServiceImpl;
+
+/**
+ * El filtro verifica la firma del JWT una sola vez por petición.
+ */
+class JwtAuthenticationFilterTest {
+    private final UserSnapshot user = new UserSnapshot(7L, "Test User", "tester", "tester@example.com",
+            "1234567890", 2L, "USER", true, 0);
+    private final HandlerExceptionResolver handlerExceptionResolver = mock(HandlerExceptionResolver.class);
+    private final UserCacheService userCacheService = mock(UserCacheService.class);
+    private JwtServiceImpl jwtService;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        JwtServiceImpl realJwtService = new JwtServiceImpl(mock(RevokedTokenService.class));
+        ReflectionTestUtils.setField(realJwtService, "SECRET_KEY",
+                "dGFza2FwcC1pbnRlZ3JhdGlvbi10ZXN0cy1zaWduaW5nLWtleS0wMTIzNDU2Nzg5");
+        ReflectionTestUtils.setField(realJwtService, "JWT_EXPIRATION", 3_600_000L);
+        realJwtService.init();
+        jwtService = spy(realJwtService);
+        when(userCacheService.findByUsername("tester")).thenReturn(Optional.of(user));
+        filter = new JwtAuthenticationFilter(handlerExceptionResolver, jwtService, userCacheService,
+                mock(TokenVersionService.class), mock(CurrentUserContext.class));
+        ReflectionTestUtils.setField(filter, "STATELESS", false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void validTokenIsParsedOnceAndAuthenticates() throws Exception {
+        String token = jwtService.generateToken(user).get("token");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isEqualTo(user);
+        verify(jwtService, times(1)).parseToken(token);
+        verify(handlerExceptionResolver, never()).resolveException(any(), any(), any(), any());
+    }
+
+    @Test
+    void requestWithoutTokenPassesUnauthenticated() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verify(userCacheService, never()).findByUsername(any());
+    }
+}
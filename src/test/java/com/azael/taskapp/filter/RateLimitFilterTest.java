@@ -0,0 +1,157 @@
+package com.azael.taskapp.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.azael.taskapp.config.RateLimitProperties;
+import com.azael.taskapp.helper.RateLimitPolicy;
+import com.azael.taskapp.services.RateLimitService;
+import com.azael.taskapp.services.impl.RateLimiterServiceImpl;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Rechazos del filtro de límite de peticiones: 429 con cuerpo JSON y cabeceras
+ * de reintento, sin llegar al resto de la cadena.
+ */
+class RateLimitFilterTest {
+    private static final Logger log = LoggerFactory.getLogger(RateLimitFilterTest.class);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private RateLimitProperties properties;
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        properties = new RateLimitProperties();
+        properties.setRequestsPerMinute(2);
+        properties.setUserRequestsPerMinute(3);
+        properties.setSketchWidth(1024);
+        properties.getRoutes().put("/tasks/export/**", 1);
+        filter = new RateLimitFilter(new RateLimiterServiceImpl(properties, new SimpleMeterRegistry()), properties,
+                objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void requestOverTheLimitIsRejectedWithRetryHeaders() throws Exception {
+        assertThat(send("/tasks").getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(send("/tasks").getStatus()).isEqualTo(HttpStatus.OK.value());
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = send("/tasks", chain);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(chain.getRequest()).isNull();
+        // 2 por minuto: el siguiente permiso llega en 30 s
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("30");
+        assertThat(response.getHeader("X-RateLimit-Limit")).isEqualTo("2");
+        assertThat(response.getHeader("X-RateLimit-Remaining")).isEqualTo("0");
+        assertThat(response.getContentType()).isEqualTo("application/json");
+        JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+        assertThat(body.get("status").asText()).isEqualTo("FAIL");
+        assertThat(body.get("message").asText()).isEqualTo("Too many requests. Please try again later.");
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void authenticatedUsersAreLimitedByUserInsteadOfAddress() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            send("/tasks");
+        }
+        assertThat(send("/tasks").getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "tester", null, List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+        for (int i = 0; i < 3; i++) {
+            assertThat(send("/tasks").getStatus()).isEqualTo(HttpStatus.OK.value());
+        }
+        MockHttpServletResponse response = send("/tasks");
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(response.getHeader("X-RateLimit-Limit")).isEqualTo("3");
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("20");
+    }
+
+    @Test
+    void routeLimitIsAppliedSeparately() throws Exception {
+        assertThat(send("/tasks/export/csv").getStatus()).isEqualTo(HttpStatus.OK.value());
+        MockHttpServletResponse response = send("/tasks/export/csv");
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(response.getHeader("X-RateLimit-Limit")).isEqualTo("1");
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("60");
+        // El límite de la ruta no consume el general
+        assertThat(send("/tasks").getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void rejectionThroughput() throws Exception {
+        // Sin mocks para no medir el registro de invocaciones de Mockito
+        RateLimitService rejectAll = new RateLimitService() {
+            @Override
+            public long tryAcquire(String key, RateLimitPolicy policy) {
+                return TimeUnit.SECONDS.toNanos(1);
+            }
+
+            @Override
+            public void evictIdle() {
+            }
+        };
+        RateLimitFilter rejecting = new RateLimitFilter(rejectAll, properties, objectMapper);
+        MockHttpServletRequest request = request("/tasks");
+
+        int requests = 1_000_000;
+        // Calentamiento para que el JIT compile el camino de rechazo
+        for (int i = 0; i < requests; i++) {
+            rejecting.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            rejecting.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        log.info("{} rejections in {} ms ({} ns/rejection)",
+                requests, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), elapsedNanos / requests);
+    }
+
+    private MockHttpServletResponse send(String uri) throws Exception {
+        return send(uri, new MockFilterChain());
+    }
+
+    private MockHttpServletResponse send(String uri, MockFilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(uri), response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String uri) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setRemoteAddr("10.0.0.1");
+        return request;
+    }
+}
@@ -0,0 +1,56 @@
+package com.azael.taskapp.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Estimaciones del count-min sketch: nunca subestima y las claves con el mismo
+ * String.hashCode no comparten contadores.
+ */
+class CountMinSketchTest {
+
+    @Test
+    void keysWithTheSameHashCodeAreCountedSeparately() {
+        assertThat("Aa".hashCode()).isEqualTo("BB".hashCode());
+        CountMinSketch sketch = new CountMinSketch(1024, 4);
+
+        for (int i = 0; i < 100; i++) {
+            sketch.add("Aa");
+        }
+
+        assertThat(sketch.estimate("Aa")).isEqualTo(100);
+        assertThat(sketch.estimate("BB")).isZero();
+    }
+
+    @Test
+    void estimateNeverUndercounts() {
+        CountMinSketch sketch = new CountMinSketch(256, 4);
+        for (int key = 0; key < 2_000; key++) {
+            for (int i = 0; i <= key % 5; i++) {
+                sketch.add("ip:" + key);
+            }
+        }
+
+        for (int key = 0; key < 2_000; key++) {
+            assertThat(sketch.estimate("ip:" + key)).isGreaterThanOrEqualTo(key % 5 + 1);
+        }
+    }
+
+    @Test
+    void murmur3MatchesTheReferenceVectors() {
+        assertThat(CountMinSketch.murmur3(new byte[0], 0)).isZero();
+        assertThat(CountMinSketch.murmur3(new byte[0], 1)).isEqualTo(0x514e28b7);
+        assertThat(CountMinSketch.murmur3("Hello, world!".getBytes(StandardCharsets.UTF_8), 1234))
+                .isEqualTo(0xfaf6cdb3);
+    }
+
+    @Test
+    void invalidDimensionsAreRejected() {
+        assertThatThrownBy(() -> new CountMinSketch(0, 4)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new CountMinSketch(16, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
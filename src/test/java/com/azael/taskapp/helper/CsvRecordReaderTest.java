@@ -0,0 +1,44 @@
+package com.azael.taskapp.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+class CsvRecordReaderTest {
+    private static final int MAX_RECORD_LENGTH = 16;
+
+    @Test
+    void tooLongRecordIsSkippedUpToItsEnd() throws IOException {
+        CsvRecordReader csv = reader("a,b\n\"" + "x".repeat(40) + "\n,\"\"y\",z\nc,d\n");
+
+        assertThat(csv.next()).containsExactly("a", "b");
+        assertThat(csv.isTooLong()).isFalse();
+
+        // El registro entre comillas abarca dos líneas; se descarta completo
+        assertThat(csv.next()).isEmpty();
+        assertThat(csv.isTooLong()).isTrue();
+        assertThat(csv.getRecordLine()).isEqualTo(2);
+
+        assertThat(csv.next()).containsExactly("c", "d");
+        assertThat(csv.isTooLong()).isFalse();
+        assertThat(csv.getRecordLine()).isEqualTo(4);
+        assertThat(csv.next()).isNull();
+    }
+
+    @Test
+    void quoteInsideTooLongFieldDoesNotOpenQuotedText() throws IOException {
+        CsvRecordReader csv = reader("x".repeat(20) + "\"y\nc,d\n");
+
+        assertThat(csv.next()).isEmpty();
+        assertThat(csv.isTooLong()).isTrue();
+        assertThat(csv.next()).containsExactly("c", "d");
+    }
+
+    private static CsvRecordReader reader(String text) {
+        return new CsvRecordReader(new BufferedReader(new StringReader(text)), MAX_RECORD_LENGTH);
+    }
+}
@@ -0,0 +1,102 @@
+package com.azael.taskapp.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import com.azael.taskapp.exceptions.DataInvalidException;
+import com.azael.taskapp.persistence.dto.request.task.TaskSortField;
+
+/**
+ * Un cursor generado por encode vuelve a la misma posición con decode, con el
+ * tipo original de cada valor, y solo sirve para el campo con que se creó.
+ */
+class CursorHelperTest {
+
+    @Test
+    void idCursorRoundTrips() throws Exception {
+        String cursor = CursorHelper.encode(position(TaskSortField.ID, 42L), TaskSortField.ID);
+
+        assertThat(keys(CursorHelper.decode(cursor, TaskSortField.ID))).containsExactly(Map.entry("id", (Object) 42L));
+    }
+
+    @Test
+    void nameCursorKeepsValuesContainingSeparators() throws Exception {
+        String name = "Release: v2 / notes ñ";
+        String cursor = CursorHelper.encode(position(TaskSortField.NAME, name), TaskSortField.NAME);
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+        assertThat(keys(CursorHelper.decode(cursor, TaskSortField.NAME)))
+                .containsExactly(Map.entry("name", (Object) name), Map.entry("id", 7L));
+    }
+
+    @Test
+    void createdAtCursorRestoresTheDateType() throws Exception {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 17, 10, 30, 15, 123_000_000);
+        String cursor = CursorHelper.encode(position(TaskSortField.CREATED_AT, createdAt), TaskSortField.CREATED_AT);
+
+        assertThat(keys(CursorHelper.decode(cursor, TaskSortField.CREATED_AT)))
+                .containsExactly(Map.entry("createdAt", (Object) createdAt), Map.entry("id", 7L));
+    }
+
+    @Test
+    void emptyCursorStartsFromTheBeginning() throws Exception {
+        assertThat(CursorHelper.decode("", TaskSortField.ID).isInitial()).isTrue();
+        assertThat(CursorHelper.decode(null, TaskSortField.NAME).isInitial()).isTrue();
+    }
+
+    @Test
+    void cursorFromAnotherSortFieldIsRejected() throws Exception {
+        String cursor = CursorHelper.encode(position(TaskSortField.NAME, "Task"), TaskSortField.NAME);
+
+        assertThatThrownBy(() -> CursorHelper.decode(cursor, TaskSortField.CREATED_AT))
+                .isInstanceOf(DataInvalidException.class);
+        assertThatThrownBy(() -> CursorHelper.decode(cursor, TaskSortField.ID))
+                .isInstanceOf(DataInvalidException.class);
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        String notANumber = Base64.getUrlEncoder().encodeToString("abc".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> CursorHelper.decode("%%%", TaskSortField.ID))
+                .isInstanceOf(DataInvalidException.class);
+        assertThatThrownBy(() -> CursorHelper.decode(notANumber, TaskSortField.ID))
+                .isInstanceOf(DataInvalidException.class);
+    }
+
+    @Test
+    void rowWithoutSortValueCannotBeEncoded() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("createdAt", null);
+        keys.put("id", 7L);
+
+        assertThatThrownBy(() -> CursorHelper.encode(ScrollPosition.forward(keys), TaskSortField.CREATED_AT))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    // Posición como la que devuelve Window.positionAt para la tarea 7 (o el id dado)
+    private static ScrollPosition position(TaskSortField sortField, Object value) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        if (sortField == TaskSortField.ID) {
+            keys.put("id", value);
+        } else {
+            keys.put(sortField.getProperty(), value);
+            keys.put("id", 7L);
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    private static Map<String, Object> keys(ScrollPosition position) {
+        return new LinkedHashMap<>(((KeysetScrollPosition) position).getKeys());
+    }
+}
@@ -0,0 +1,101 @@
+package com.azael.taskapp.helper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.support.StaticWebApplicationContext;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * Expansión de las plantillas resueltas al arrancar: variables de ruta con
+ * expresión regular, parámetros de query con alias, nulos omitidos, valores
+ * codificados y métodos sobrecargados rechazados.
+ */
+class LinkTemplateRegistryTest {
+    private StaticWebApplicationContext context;
+    private LinkTemplateRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        context = new StaticWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.registerSingleton("sampleController", SampleController.class);
+        context.registerSingleton("requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
+        context.refresh();
+        registry = new LinkTemplateRegistry(context);
+        registry.afterSingletonsInstantiated();
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setServerName("api.example.com");
+        request.setContextPath("/app");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        context.close();
+    }
+
+    @Test
+    void queryParametersFollowTheMethodOrderAndSkipNulls() {
+        LinkTemplateRegistry.Expander list = registry.expander(SampleController.class, "list");
+
+        Link next = list.link("next", 2, "a b&c");
+        Link first = list.link("first", 0, null);
+
+        assertThat(next.getRel().value()).isEqualTo("next");
+        assertThat(next.getHref()).isEqualTo("http://api.example.com/app/samples?page=2&q=a%20b%26c");
+        assertThat(first.getHref()).isEqualTo("http://api.example.com/app/samples?page=0");
+    }
+
+    @Test
+    void pathVariablesAreEncodedAsSegments() {
+        Link link = registry.expander(SampleController.class, "item").link("self", 7, "x/ñ", "name");
+
+        assertThat(link.getHref()).isEqualTo("http://api.example.com/app/samples/7/items/x%2F%C3%B1?sort=name");
+    }
+
+    @Test
+    void ambiguousOrUnknownMethodsAndWrongArityAreRejected() {
+        assertThatThrownBy(() -> registry.expander(SampleController.class, "overloaded"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> registry.expander(SampleController.class, "missing"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> registry.expander(SampleController.class, "list").link("self", 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @RestController
+    @RequestMapping("/samples")
+    static class SampleController {
+        @GetMapping
+        public void list(@RequestParam(defaultValue = "0") int page, @RequestParam(name = "q", required = false) String query) {
+        }
+
+        @GetMapping("/{id:\\d+}/items/{item}")
+        public void item(@PathVariable Long id, @PathVariable("item") String itemName, @RequestParam String sort) {
+        }
+
+        @GetMapping("/a")
+        public void overloaded() {
+        }
+
+        @GetMapping("/b")
+        public void overloaded(@RequestParam int value) {
+        }
+    }
+}
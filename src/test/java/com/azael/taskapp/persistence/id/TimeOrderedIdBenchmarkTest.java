@@ -0,0 +1,76 @@
+package com.azael.taskapp.persistence.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.azael.taskapp.MySqlIntegrationTest;
+import com.azael.taskapp.persistence.entities.Status;
+import com.azael.taskapp.persistence.entities.Task;
+import com.azael.taskapp.persistence.entities.User;
+import com.azael.taskapp.persistence.repositories.TaskRepository;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Inserta 100.000 tareas con ids de TimeOrderedIdGenerator. Tarda, así que solo
+ * corre con -Dbenchmark=true.
+ *
+ * Comprueba que los ids no se repiten y crecen en el orden de inserción, y que
+ * los INSERT van en lotes: con IDENTITY Hibernate necesitaría una sentencia por
+ * fila para conocer cada id.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TimeOrderedIdBenchmarkTest extends MySqlIntegrationTest {
+    private static final Logger log = LoggerFactory.getLogger(TimeOrderedIdBenchmarkTest.class);
+    private static final int TASKS = 100_000;
+    private static final int CHUNK = 1_000;
+
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void inserts100kTasksInBatches() {
+        User user = createUser();
+        Status pending = referenceDataRegistry.findStatus(1L).orElseThrow();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Long> ids = new ArrayList<>(TASKS);
+
+        statistics().clear();
+        long start = System.nanoTime();
+        for (int offset = 0; offset < TASKS; offset += CHUNK) {
+            int first = offset;
+            transactionTemplate.executeWithoutResult(tx -> {
+                List<Task> chunk = new ArrayList<>(CHUNK);
+                for (int i = first; i < first + CHUNK; i++) {
+                    chunk.add(new Task("Benchmark task " + i, "Benchmark description " + i, pending, user));
+                }
+                taskRepository.saveAll(chunk).forEach(task -> ids.add(task.getId()));
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        long statements = statistics().getPrepareStatementCount();
+        log.info("Inserted {} tasks in {} ms ({} rows/s, {} statements)",
+                TASKS, elapsedMillis, TASKS * 1000L / Math.max(elapsedMillis, 1), statements);
+
+        assertThat(ids).hasSize(TASKS).doesNotHaveDuplicates().isSorted();
+        // batch_size=50: unas 2.000 sentencias en lugar de 100.000
+        assertThat(statements).isLessThan(TASKS / 10);
+        assertThat(taskRepository.countByUserId(user.getId())).isEqualTo(TASKS);
+    }
+}
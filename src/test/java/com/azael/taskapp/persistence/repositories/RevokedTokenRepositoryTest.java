@@ -0,0 +1,82 @@
+package com.azael.taskapp.persistence.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.azael.taskapp.MySqlIntegrationTest;
+import com.azael.taskapp.persistence.entities.RevokedToken;
+import com.azael.taskapp.services.RevokedTokenService;
+
+/**
+ * Purga de revoked_token sobre MySQL: el DELETE ... LIMIT por lotes borra solo
+ * las filas expiradas.
+ */
+class RevokedTokenRepositoryTest extends MySqlIntegrationTest {
+    private static final Logger log = LoggerFactory.getLogger(RevokedTokenRepositoryTest.class);
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+    @Autowired
+    private RevokedTokenService revokedTokenService;
+
+    @BeforeEach
+    void setUp() {
+        revokedTokenRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void purgeDeletesOnlyExpiredRows() {
+        revokedTokenRepository.saveAll(tokens(2_500, LocalDateTime.now().minusMinutes(1)));
+        revokedTokenRepository.saveAll(tokens(10, LocalDateTime.now().plusHours(1)));
+
+        // purge-batch-size=1000: tres lotes
+        assertThat(revokedTokenService.purgeExpired()).isEqualTo(2_500);
+        assertThat(revokedTokenRepository.count()).isEqualTo(10);
+        assertThat(revokedTokenRepository.findByExpiresAtAfter(LocalDateTime.now())).hasSize(10);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void purgeThroughput() {
+        int rows = 200_000;
+        for (int i = 0; i < rows; i += 10_000) {
+            revokedTokenRepository.saveAll(tokens(10_000, LocalDateTime.now().minusMinutes(1)));
+        }
+
+        long start = System.nanoTime();
+        int purged = revokedTokenService.purgeExpired();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Purged {} expired revoked tokens in {} ms", purged, elapsedMillis);
+
+        assertThat(purged).isEqualTo(rows);
+        assertThat(revokedTokenRepository.count()).isZero();
+    }
+
+    private static List<RevokedToken> tokens(int count, LocalDateTime expiresAt) {
+        List<RevokedToken> tokens = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            RevokedToken token = new RevokedToken();
+            // 64 caracteres hexadecimales, como un SHA-256
+            token.setTokenHash(hex() + hex());
+            token.setRevokedAt(LocalDateTime.now().minusHours(1));
+            token.setExpiresAt(expiresAt);
+            tokens.add(token);
+        }
+        return tokens;
+    }
+
+    private static String hex() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+}
@@ -0,0 +1,114 @@
+package com.azael.taskapp.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import com.azael.taskapp.config.RateLimitProperties;
+import com.azael.taskapp.helper.RateLimitPolicy;
+import com.azael.taskapp.services.RateLimitStore;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Reservas del limitador compartido sobre un almacén simulado: las claves con
+ * poco tráfico no llegan al almacén y las activas piden permisos por lotes.
+ */
+class DistributedRateLimiterServiceImplTest {
+    // Ráfaga de 40 y lotes de 10 permisos
+    private static final RateLimitPolicy POLICY = RateLimitPolicy.perMinute("ip", 60, 40);
+
+    private final RateLimitStore rateLimitStore = mock(RateLimitStore.class);
+    private RateLimitProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private DistributedRateLimiterServiceImpl rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setSketchWidth(4096);
+        meterRegistry = new SimpleMeterRegistry();
+        RateLimiterServiceImpl localLimiter = new RateLimiterServiceImpl(properties, meterRegistry);
+        rateLimiter = new DistributedRateLimiterServiceImpl(rateLimitStore, localLimiter, properties, meterRegistry);
+    }
+
+    @Test
+    void scanFromManyAddressesNeverReachesTheStore() {
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(rateLimiter.tryAcquire("ip|ip:10.0." + (i >> 8) + "." + (i & 255), POLICY)).isZero();
+        }
+
+        verify(rateLimitStore, never()).acquire(anyString(), any(), anyInt());
+    }
+
+    @Test
+    void activeKeyLeasesBatchesFromTheStore() {
+        when(rateLimitStore.acquire(eq("ip|ip:1"), eq(POLICY), eq(10))).thenReturn(10);
+
+        // 10 peticiones por el sketch y 20 con dos lotes reservados
+        for (int i = 0; i < 30; i++) {
+            assertThat(rateLimiter.tryAcquire("ip|ip:1", POLICY)).isZero();
+        }
+
+        verify(rateLimitStore, times(2)).acquire("ip|ip:1", POLICY, 10);
+    }
+
+    @Test
+    void exhaustedSharedQuotaIsRejectedWithoutAskingAgain() {
+        when(rateLimitStore.acquire(anyString(), any(), anyInt())).thenReturn(0);
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.tryAcquire("ip|ip:1", POLICY);
+        }
+
+        assertThat(rateLimiter.tryAcquire("ip|ip:1", POLICY)).isPositive();
+        assertThat(rateLimiter.tryAcquire("ip|ip:1", POLICY)).isPositive();
+
+        verify(rateLimitStore, times(1)).acquire(anyString(), any(), anyInt());
+    }
+
+    @Test
+    void fullLeaseTableDecidesFromTheSketch() {
+        properties.setMaxKeys(1);
+        when(rateLimitStore.acquire(anyString(), any(), anyInt())).thenReturn(10);
+        for (int i = 0; i < 11; i++) {
+            rateLimiter.tryAcquire("ip|ip:1", POLICY);
+        }
+
+        int allowed = 0;
+        for (int i = 0; i < 100; i++) {
+            if (rateLimiter.tryAcquire("ip|ip:2", POLICY) == 0) {
+                allowed++;
+            }
+        }
+
+        // ip:2 no cabe en la tabla: se admite hasta su límite por minuto sin consultar el almacén
+        assertThat(allowed).isEqualTo(POLICY.limit());
+        verify(rateLimitStore, never()).acquire(eq("ip|ip:2"), any(), anyInt());
+        assertThat(meterRegistry.get("taskapp.rate_limit.overflow").counter().count()).isPositive();
+    }
+
+    @Test
+    void storeFailureFallsBackToTheLocalLimiter() {
+        properties.setFallbackRetry(60_000);
+        when(rateLimitStore.acquire(anyString(), any(), anyInt()))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        for (int i = 0; i < 12; i++) {
+            rateLimiter.tryAcquire("ip|ip:1", POLICY);
+        }
+
+        verify(rateLimitStore, times(1)).acquire(anyString(), any(), anyInt());
+        assertThat(meterRegistry.get("taskapp.rate_limit.fallbacks").counter().count()).isEqualTo(2);
+    }
+}
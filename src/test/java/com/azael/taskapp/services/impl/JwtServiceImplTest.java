@@ -0,0 +1,89 @@
+package com.azael.taskapp.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.azael.taskapp.security.UserSnapshot;
+import com.azael.taskapp.services.RevokedTokenService;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.security.SignatureException;
+
+class JwtServiceImplTest {
+    private static final Logger log = LoggerFactory.getLogger(JwtServiceImplTest.class);
+    private static final String SECRET = "dGFza2FwcC1pbnRlZ3JhdGlvbi10ZXN0cy1zaWduaW5nLWtleS0wMTIzNDU2Nzg5";
+
+    private final RevokedTokenService revokedTokenService = mock(RevokedTokenService.class);
+    private final UserSnapshot user = new UserSnapshot(7L, "Test User", "tester", "tester@example.com",
+            "1234567890", 2L, "USER", true, 0);
+    private JwtServiceImpl jwtService;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtServiceImpl(revokedTokenService);
+        ReflectionTestUtils.setField(jwtService, "SECRET_KEY", SECRET);
+        ReflectionTestUtils.setField(jwtService, "JWT_EXPIRATION", 3_600_000L);
+        jwtService.init();
+    }
+
+    @Test
+    void parsedClaimsValidateWithoutParsingAgain() {
+        String token = jwtService.generateToken(user).get("token");
+
+        Claims claims = jwtService.parseToken(token);
+
+        assertThat(claims.getSubject()).isEqualTo("tester");
+        assertThat(jwtService.isTokenValid(token, claims, user)).isTrue();
+    }
+
+    @Test
+    void revokedTokenIsNotValid() {
+        String token = jwtService.generateToken(user).get("token");
+        when(revokedTokenService.isRevoked(token)).thenReturn(true);
+
+        assertThat(jwtService.isTokenValid(token, jwtService.parseToken(token), user)).isFalse();
+    }
+
+    @Test
+    void tokenForAnotherUserIsNotValid() {
+        String token = jwtService.generateToken(user).get("token");
+        UserSnapshot other = new UserSnapshot(8L, "Other", "other", "other@example.com", "1234567890", 2L, "USER",
+                true, 0);
+
+        assertThat(jwtService.isTokenValid(token, jwtService.parseToken(token), other)).isFalse();
+    }
+
+    @Test
+    void tamperedSignatureIsRejected() {
+        String token = jwtService.generateToken(user).get("token");
+        char last = token.charAt(token.length() - 1);
+        String tampered = token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A');
+
+        assertThatThrownBy(() -> jwtService.parseToken(tampered)).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void parseThroughput() {
+        when(revokedTokenService.isRevoked(anyString())).thenReturn(false);
+        String token = jwtService.generateToken(user).get("token");
+        int parses = 200_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < parses; i++) {
+            jwtService.isTokenValid(token, jwtService.parseToken(token), user);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        log.info("{} parse and validate calls in {} ms ({} ns per request)", parses, elapsedNanos / 1_000_000,
+                elapsedNanos / parses);
+    }
+}
@@ -0,0 +1,184 @@
+package com.azael.taskapp.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.azael.taskapp.config.RateLimitProperties;
+import com.azael.taskapp.helper.RateLimitPolicy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Límites GCRA del limitador local: ráfaga, recarga perezosa, claves
+ * independientes y el caso de tabla llena resuelto con el sketch.
+ */
+class RateLimiterServiceImplTest {
+    private static final Logger log = LoggerFactory.getLogger(RateLimiterServiceImplTest.class);
+
+    private RateLimitProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimiterServiceImpl rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setSketchWidth(4096);
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new RateLimiterServiceImpl(properties, meterRegistry);
+    }
+
+    @Test
+    void burstIsAllowedAndTheNextRequestWaitsOneEmissionInterval() {
+        RateLimitPolicy policy = RateLimitPolicy.perMinute("test", 60, 5);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(rateLimiter.tryAcquire("ip:1", policy)).isZero();
+        }
+        long waitNanos = rateLimiter.tryAcquire("ip:1", policy);
+
+        assertThat(waitNanos).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1))
+                .isGreaterThan(TimeUnit.MILLISECONDS.toNanos(900));
+        assertThat(meterRegistry.get("taskapp.rate_limit.promoted").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void permitsRefillLazilyWithoutAGlobalReset() throws InterruptedException {
+        // Un permiso cada milisegundo, ráfaga de 5
+        RateLimitPolicy policy = RateLimitPolicy.perMinute("fast", 60_000, 5);
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.tryAcquire("ip:1", policy);
+        }
+        assertThat(rateLimiter.tryAcquire("ip:1", policy)).isPositive();
+
+        Thread.sleep(20);
+
+        assertThat(rateLimiter.tryAcquire("ip:1", policy)).isZero();
+    }
+
+    @Test
+    void keysAreLimitedIndependently() {
+        RateLimitPolicy policy = RateLimitPolicy.perMinute("test", 60, 5);
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.tryAcquire("ip:1", policy);
+        }
+        assertThat(rateLimiter.tryAcquire("ip:1", policy)).isPositive();
+
+        assertThat(rateLimiter.tryAcquire("ip:2", policy)).isZero();
+        assertThat(rateLimiter.tryAcquire("user:ana", policy)).isZero();
+    }
+
+    @Test
+    void fullTableFallsBackToTheSketchEstimate() {
+        properties.setMaxKeys(1);
+        RateLimitPolicy policy = RateLimitPolicy.perMinute("test", 10, 2);
+        for (int i = 0; i < 2; i++) {
+            rateLimiter.tryAcquire("ip:1", policy);
+        }
+
+        // ip:2 ya no cabe en la tabla: se admite hasta que el sketch supera el límite por minuto
+        int allowed = 0;
+        for (int i = 0; i < 20; i++) {
+            if (rateLimiter.tryAcquire("ip:2", policy) == 0) {
+                allowed++;
+            }
+        }
+
+        assertThat(allowed).isEqualTo(10);
+        assertThat(meterRegistry.get("taskapp.rate_limit.keys").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("taskapp.rate_limit.overflow").counter().count()).isPositive();
+    }
+
+    @Test
+    void evictIdleDropsRefilledKeys() throws InterruptedException {
+        RateLimitPolicy policy = RateLimitPolicy.perMinute("fast", 60_000, 2);
+        for (int i = 0; i < 2; i++) {
+            rateLimiter.tryAcquire("ip:1", policy);
+        }
+        assertThat(meterRegistry.get("taskapp.rate_limit.keys").gauge().value()).isEqualTo(1);
+
+        Thread.sleep(10);
+        rateLimiter.evictIdle();
+
+        assertThat(meterRegistry.get("taskapp.rate_limit.keys").gauge().value()).isZero();
+    }
+
+    @Test
+    void concurrentRequestsNeverExceedTheBurst() throws InterruptedException {
+        // Un permiso cada 10 s: durante la prueba no se recarga ninguno
+        RateLimitPolicy policy = RateLimitPolicy.perMinute("slow", 6, 10);
+        AtomicInteger allowed = new AtomicInteger();
+
+        runConcurrently(64, 100, (thread, i) -> {
+            if (rateLimiter.tryAcquire("ip:1", policy) == 0) {
+                allowed.incrementAndGet();
+            }
+        });
+
+        // Si un hilo incrementa el sketch justo mientras otro promociona la clave,
+        // esa petición puede no descontarse: como mucho una de más
+        assertThat(allowed.get()).isPositive().isLessThanOrEqualTo(11);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void contentionThroughput() throws InterruptedException {
+        RateLimitPolicy policy = RateLimitPolicy.perMinute("bench", 1_000_000, 0);
+        int threads = 64;
+        int iterations = 200_000;
+        LongAdder rejected = new LongAdder();
+
+        long start = System.nanoTime();
+        runConcurrently(threads, iterations, (thread, i) -> {
+            // 64 hilos sobre 8 claves
+            if (rateLimiter.tryAcquire("user:" + (thread & 7), policy) > 0) {
+                rejected.increment();
+            }
+        });
+        long elapsedNanos = System.nanoTime() - start;
+
+        long operations = (long) threads * iterations;
+        log.info("{} tryAcquire calls from {} threads in {} ms ({} ns/op, {} ops/s, {} rejected)",
+                operations, threads, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                elapsedNanos / operations, operations * 1_000_000_000L / elapsedNanos, rejected.sum());
+    }
+
+    private interface Task {
+        void run(int thread, int iteration);
+    }
+
+    private static void runConcurrently(int threads, int iterations, Task task) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            executor.execute(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < iterations; i++) {
+                        task.run(thread, i);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        assertThat(done.await(2, TimeUnit.MINUTES)).isTrue();
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,165 @@
+package com.azael.taskapp.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.azael.taskapp.persistence.entities.RevokedToken;
+import com.azael.taskapp.persistence.repositories.RevokedTokenRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Lista de revocados en memoria sobre un repositorio simulado: las consultas
+ * no tocan la base de datos y las revocaciones de otras instancias llegan con
+ * la sincronización.
+ */
+class RevokedTokenServiceImplTest {
+    private static final Logger log = LoggerFactory.getLogger(RevokedTokenServiceImplTest.class);
+    private static final int EXPECTED_INSERTIONS = 1_000;
+
+    private final RevokedTokenRepository revokedTokenRepository = mock(RevokedTokenRepository.class);
+    private SimpleMeterRegistry meterRegistry;
+    private RevokedTokenServiceImpl revokedTokenService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        revokedTokenService = new RevokedTokenServiceImpl(revokedTokenRepository, meterRegistry);
+        ReflectionTestUtils.setField(revokedTokenService, "EXPECTED_INSERTIONS", EXPECTED_INSERTIONS);
+        ReflectionTestUtils.setField(revokedTokenService, "FALSE_POSITIVE_RATE", 0.01);
+        ReflectionTestUtils.setField(revokedTokenService, "PURGE_BATCH_SIZE", 100);
+        when(revokedTokenRepository.findByExpiresAtAfter(any())).thenReturn(List.of());
+        revokedTokenService.load();
+    }
+
+    @Test
+    void revokedTokenIsRejectedWithoutQueryingTheDatabase() {
+        revokedTokenService.revoke("token-a", inMinutes(10));
+
+        assertThat(revokedTokenService.isRevoked("token-a")).isTrue();
+        assertThat(revokedTokenService.isRevoked("token-b")).isFalse();
+        verify(revokedTokenRepository, never()).findByRevokedAtAfter(any());
+    }
+
+    @Test
+    void expiredTokenIsNotStored() {
+        revokedTokenService.revoke("token-a", inMinutes(-1));
+
+        assertThat(revokedTokenService.isRevoked("token-a")).isFalse();
+        verify(revokedTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void revocationsFromOtherInstancesArriveWithTheSync() {
+        when(revokedTokenRepository.findByRevokedAtAfter(any())).thenReturn(List.of(revoked("token-c")));
+        assertThat(revokedTokenService.isRevoked("token-c")).isFalse();
+
+        revokedTokenService.synchronize();
+
+        assertThat(revokedTokenService.isRevoked("token-c")).isTrue();
+    }
+
+    @Test
+    void filterGrowsPastItsCapacityAndKeepsTheFalsePositiveRateLow() {
+        List<RevokedToken> revokedTokens = new ArrayList<>();
+        for (int i = 0; i < EXPECTED_INSERTIONS * 3; i++) {
+            revokedTokens.add(revoked("revoked-" + i));
+        }
+        when(revokedTokenRepository.findByRevokedAtAfter(any())).thenReturn(revokedTokens);
+        revokedTokenService.synchronize();
+
+        for (int i = 0; i < EXPECTED_INSERTIONS * 3; i++) {
+            assertThat(revokedTokenService.isRevoked("revoked-" + i)).isTrue();
+        }
+        for (int i = 0; i < 50_000; i++) {
+            assertThat(revokedTokenService.isRevoked("valid-" + i)).isFalse();
+        }
+        // Los falsos positivos del filtro los descarta el conjunto exacto; la tasa observada se publica
+        assertThat(meterRegistry.get("taskapp.revoked_tokens.false_positive_rate").gauge().value()).isLessThan(0.02);
+    }
+
+    @Test
+    void purgeDeletesInBatchesUntilAShortOne() {
+        when(revokedTokenRepository.deleteExpiredBatch(any(), eq(100))).thenReturn(100, 100, 37);
+
+        assertThat(revokedTokenService.purgeExpired()).isEqualTo(237);
+        verify(revokedTokenRepository, times(3)).deleteExpiredBatch(any(), anyInt());
+        assertThat(meterRegistry.get("taskapp.revoked_tokens.purged").counter().count()).isEqualTo(237);
+    }
+
+    @Test
+    void purgeDropsExpiredEntriesFromMemory() {
+        RevokedToken expired = revoked("token-expired");
+        expired.setExpiresAt(LocalDateTime.now().minusSeconds(1));
+        when(revokedTokenRepository.findByRevokedAtAfter(any())).thenReturn(List.of(expired, revoked("token-live")));
+        revokedTokenService.synchronize();
+        assertThat(meterRegistry.get("taskapp.revoked_tokens.size").gauge().value()).isEqualTo(2);
+
+        revokedTokenService.purgeExpired();
+
+        assertThat(meterRegistry.get("taskapp.revoked_tokens.size").gauge().value()).isEqualTo(1);
+        assertThat(revokedTokenService.isRevoked("token-expired")).isFalse();
+        assertThat(revokedTokenService.isRevoked("token-live")).isTrue();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void lookupThroughput() {
+        for (int i = 0; i < EXPECTED_INSERTIONS; i++) {
+            revokedTokenService.revoke("revoked-" + i, inMinutes(10));
+        }
+        int lookups = 1_000_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < lookups; i++) {
+            revokedTokenService.isRevoked("eyJhbGciOiJIUzI1NiJ9.valid-" + i);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        log.info("{} revocation checks in {} ms ({} ns per check)", lookups, elapsedNanos / 1_000_000,
+                elapsedNanos / lookups);
+        verify(revokedTokenRepository, never()).findByRevokedAtAfter(any());
+    }
+
+    private static RevokedToken revoked(String token) {
+        RevokedToken revokedToken = new RevokedToken();
+        revokedToken.setTokenHash(HexFormat.of().formatHex(digest(token)));
+        revokedToken.setRevokedAt(LocalDateTime.now());
+        revokedToken.setExpiresAt(LocalDateTime.now().plusMinutes(10));
+        return revokedToken;
+    }
+
+    private static Date inMinutes(int minutes) {
+        return Date.from(LocalDateTime.now().plusMinutes(minutes).atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private static byte[] digest(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.azael.taskapp.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.azael.taskapp.MySqlIntegrationTest;
+import com.azael.taskapp.exceptions.RateLimitException;
+import com.azael.taskapp.persistence.dto.request.task.TaskFileFormat;
+import com.azael.taskapp.persistence.entities.Status;
+import com.azael.taskapp.persistence.entities.Task;
+import com.azael.taskapp.persistence.entities.User;
+import com.azael.taskapp.persistence.repositories.TaskRepository;
+import com.azael.taskapp.security.UserSnapshot;
+import com.azael.taskapp.services.TaskExportService;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * La exportación escribe a medida que lee del cursor: el heap retenido durante
+ * la escritura no crece con el número de filas. Se llama al servicio
+ * directamente porque MockMvc guarda la respuesta completa en memoria.
+ */
+class TaskExportServiceImplTest extends MySqlIntegrationTest {
+    private static final int TASKS = 100_000;
+    private static final int CHUNK = 1_000;
+    private static final long MAX_RETAINED_BYTES = 16L * 1024 * 1024;
+    private static final long SAMPLE_EVERY_BYTES = 4L * 1024 * 1024;
+
+    @Autowired
+    private TaskExportService taskExportService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManager entityManager;
+    @Value("${api.tasks.export.max-concurrent}")
+    private int maxConcurrent;
+
+    private ServletRequestAttributes request;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = createUser();
+        newRequest();
+        UserSnapshot principal = UserSnapshot.of(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    // CurrentUserContext es de ámbito petición
+    private void newRequest() {
+        if (request != null) {
+            request.requestCompleted();
+        }
+        request = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(request);
+    }
+
+    @AfterEach
+    void tearDown() {
+        request.requestCompleted();
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void exportRetainsBoundedHeap() throws Exception {
+        insertTasks();
+        HeapSamplingSink sink = new HeapSamplingSink();
+
+        taskExportService.export(TaskFileFormat.NDJSON).writeTo(sink);
+
+        // La respuesta ocupa más del doble de lo que se permite retener
+        assertThat(sink.bytes).isGreaterThan(2 * MAX_RETAINED_BYTES);
+        assertThat(sink.maxRetained).isLessThan(MAX_RETAINED_BYTES);
+    }
+
+    @Test
+    void exportsOverTheLimitAreRejected() throws Exception {
+        List<StreamingResponseBody> running = new ArrayList<>();
+        try {
+            assertThatThrownBy(() -> {
+                while (true) {
+                    running.add(taskExportService.export(TaskFileFormat.CSV));
+                }
+            }).isInstanceOf(RateLimitException.class);
+            assertThat(running).isNotEmpty();
+        } finally {
+            // Escribirlas libera sus cupos
+            for (StreamingResponseBody body : running) {
+                body.writeTo(OutputStream.nullOutputStream());
+            }
+        }
+        taskExportService.export(TaskFileFormat.CSV).writeTo(OutputStream.nullOutputStream());
+    }
+
+    @Test
+    void permitIsReturnedWhenTheBodyNeverRuns() throws Exception {
+        // Más exportaciones que cupos, ninguna llega a escribirse: la petición termina antes
+        for (int i = 0; i <= maxConcurrent; i++) {
+            newRequest();
+            StreamingResponseBody body = taskExportService.export(TaskFileFormat.CSV);
+            completeAsyncRequest();
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            body.writeTo(output);
+            assertThat(output.size()).isZero();
+        }
+    }
+
+    // Lo que hace WebAsyncManager al cerrar la petición asíncrona, por tiempo, error o fin normal
+    private void completeAsyncRequest() throws Exception {
+        CallableProcessingInterceptor interceptor = WebAsyncUtils.getAsyncManager(request.getRequest())
+                .getCallableInterceptor(TaskExportServiceImpl.class.getName());
+        interceptor.afterCompletion(new ServletWebRequest(request.getRequest()), null);
+    }
+
+    private void insertTasks() {
+        Status pending = referenceDataRegistry.findStatus(1L).orElseThrow();
+        String description = "x".repeat(240);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (int offset = 0; offset < TASKS; offset += CHUNK) {
+            int first = offset;
+            transactionTemplate.executeWithoutResult(tx -> {
+                List<Task> chunk = new ArrayList<>(CHUNK);
+                for (int i = first; i < first + CHUNK; i++) {
+                    chunk.add(new Task("Export task " + i, description, pending, user));
+                }
+                taskRepository.saveAll(chunk);
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    // Descarta lo escrito y mide el heap retenido cada pocos MB
+    private static class HeapSamplingSink extends OutputStream {
+        private final long baseline = usedHeap();
+        private long bytes;
+        private long nextSample = SAMPLE_EVERY_BYTES;
+        private long maxRetained;
+
+        @Override
+        public void write(int b) {
+            count(1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count(len);
+        }
+
+        private void count(int len) {
+            bytes += len;
+            if (bytes >= nextSample) {
+                nextSample += SAMPLE_EVERY_BYTES;
+                maxRetained = Math.max(maxRetained, usedHeap() - baseline);
+            }
+        }
+    }
+}
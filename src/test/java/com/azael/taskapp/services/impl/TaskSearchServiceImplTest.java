@@ -0,0 +1,71 @@
+package com.azael.taskapp.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.azael.taskapp.MySqlIntegrationTest;
+import com.azael.taskapp.persistence.entities.Status;
+import com.azael.taskapp.persistence.entities.Task;
+import com.azael.taskapp.persistence.entities.User;
+import com.azael.taskapp.persistence.projections.TaskSummary;
+import com.azael.taskapp.persistence.repositories.TaskRepository;
+import com.azael.taskapp.services.TaskSearchService;
+
+/**
+ * La búsqueda con el índice FULLTEXT y la búsqueda LIKE de respaldo comparan
+ * las mismas columnas, así que devuelven las mismas tareas.
+ */
+class TaskSearchServiceImplTest extends MySqlIntegrationTest {
+    @Autowired
+    private TaskSearchService taskSearchService;
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = createUser();
+        Status pending = referenceDataRegistry.findStatus(1L).orElseThrow();
+        taskRepository.saveAll(List.of(
+                new Task("Groceries", "Buy milk and bread", pending, user),
+                new Task("Milk delivery", "Pay the delivery service", pending, user),
+                new Task("Laundry", "Wash the white shirts", pending, user)));
+    }
+
+    @Test
+    void indexIsCreatedOnTheEmptyTableAtStartup() {
+        Integer indexes = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.statistics "
+                + "WHERE table_schema = DATABASE() AND table_name = 'tasks' "
+                + "AND index_name = 'ft_tasks_name_description'", Integer.class);
+
+        assertThat(indexes).isPositive();
+        assertThat(taskSearchService.supports("milk")).isTrue();
+    }
+
+    @Test
+    void fullTextAndLikeSearchesMatchTheSameColumns() {
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by("id"));
+
+        List<String> fullText = names(taskSearchService.search("milk", user.getId(), pageable, true).getContent());
+        List<String> like = names(taskRepository.findSummariesByNameAndUserId("milk", user.getId(), pageable)
+                .getContent());
+
+        assertThat(fullText).containsExactlyInAnyOrder("Groceries", "Milk delivery");
+        assertThat(like).containsExactlyInAnyOrderElementsOf(fullText);
+    }
+
+    private static List<String> names(List<TaskSummary> tasks) {
+        return tasks.stream().map(TaskSummary::name).toList();
+    }
+}
@@ -0,0 +1,73 @@
+package com.azael.taskapp.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.azael.taskapp.persistence.repositories.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TokenVersionServiceImplTest {
+    private static final long MAX_SIZE = 100;
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private TokenVersionServiceImpl tokenVersionService;
+
+    @BeforeEach
+    void setUp() {
+        tokenVersionService = new TokenVersionServiceImpl(userRepository, new SimpleMeterRegistry(), MAX_SIZE, 60_000);
+    }
+
+    @Test
+    void versionIsReadOnceAndThenServedFromMemory() {
+        when(userRepository.findTokenVersionById(1L)).thenReturn(Optional.of(3));
+
+        assertThat(tokenVersionService.isCurrent(1L, 3)).isTrue();
+        assertThat(tokenVersionService.isCurrent(1L, 2)).isFalse();
+        verify(userRepository, times(1)).findTokenVersionById(1L);
+    }
+
+    @Test
+    void missingUserIsRejectedAndNotCached() {
+        when(userRepository.findTokenVersionById(1L)).thenReturn(Optional.empty());
+
+        assertThat(tokenVersionService.isCurrent(1L, 0)).isFalse();
+        assertThat(tokenVersionService.isCurrent(1L, 0)).isFalse();
+        verify(userRepository, times(2)).findTokenVersionById(1L);
+    }
+
+    @Test
+    void updateOutsideATransactionAppliesAtOnce() {
+        tokenVersionService.update(1L, 5);
+
+        assertThat(tokenVersionService.isCurrent(1L, 5)).isTrue();
+        verify(userRepository, never()).findTokenVersionById(any());
+    }
+
+    @Test
+    void cacheStaysBoundedWhateverTheNumberOfUsers() {
+        when(userRepository.findTokenVersionById(anyLong())).thenReturn(Optional.of(0));
+        for (long id = 0; id < 10_000; id++) {
+            tokenVersionService.isCurrent(id, 0);
+        }
+
+        @SuppressWarnings("unchecked")
+        Cache<Long, Integer> versions = (Cache<Long, Integer>) ReflectionTestUtils.getField(tokenVersionService,
+                "versions");
+        versions.cleanUp();
+        assertThat(versions.estimatedSize()).isLessThanOrEqualTo(MAX_SIZE);
+    }
+}
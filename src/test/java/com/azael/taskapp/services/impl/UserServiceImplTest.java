@@ -0,0 +1,67 @@
+package com.azael.taskapp.services.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.azael.taskapp.MySqlIntegrationTest;
+import com.azael.taskapp.persistence.dto.request.user.UpdateUserRequestDto;
+import com.azael.taskapp.persistence.entities.User;
+import com.azael.taskapp.services.UserService;
+
+/**
+ * Editar un usuario solo invalida sus tokens si cambia el rol o la contraseña.
+ */
+class UserServiceImplTest extends MySqlIntegrationTest {
+    private static final String PASSWORD = "Secret123";
+
+    @Autowired
+    private UserService userService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = createUser();
+        // Deja una contraseña real (createUser guarda un valor que no es BCrypt)
+        userService.update(request("Test User", PASSWORD, USER_ROLE_ID), user.getId());
+    }
+
+    @Test
+    void profileEditKeepsTheTokenVersion() {
+        int version = tokenVersion();
+
+        userService.update(request("Renamed User", PASSWORD, USER_ROLE_ID), user.getId());
+
+        assertThat(tokenVersion()).isEqualTo(version);
+    }
+
+    @Test
+    void passwordChangeBumpsTheTokenVersion() {
+        int version = tokenVersion();
+
+        userService.update(request("Test User", "Changed123", USER_ROLE_ID), user.getId());
+
+        assertThat(tokenVersion()).isEqualTo(version + 1);
+    }
+
+    @Test
+    void roleChangeBumpsTheTokenVersion() {
+        int version = tokenVersion();
+
+        userService.update(request("Test User", PASSWORD, ADMIN_ROLE_ID), user.getId());
+
+        assertThat(tokenVersion()).isEqualTo(version + 1);
+    }
+
+    private int tokenVersion() {
+        return userRepository.findTokenVersionById(user.getId()).orElseThrow();
+    }
+
+    private UpdateUserRequestDto request(String name, String password, Long roleId) {
+        return new UpdateUserRequestDto(name, user.getUsername(), user.getEmail(), password, password, true,
+                user.getPhone(), roleId);
+    }
+}